@@ -0,0 +1,25 @@
+package org.example.cryptography;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the JMH benchmarks. It accepts the same arguments as the JMH command line
+ * (i.e. {@code AESBenchmark -p size=1024 -f 1}) and always attaches the GC profiler, so every
+ * result reports the allocation per operation ({@code gc.alloc.rate.norm}) next to the throughput.
+ */
+public class Benchmarks {
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        final var commandLineOptions = new CommandLineOptions(args);
+        final var options = new OptionsBuilder()
+            .parent(commandLineOptions)
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
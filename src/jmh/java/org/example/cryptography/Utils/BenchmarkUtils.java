@@ -0,0 +1,53 @@
+package org.example.cryptography.Utils;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+
+public class BenchmarkUtils {
+
+    private static final double MEGABYTE = 1024 * 1024;
+
+    /**
+     * Generate a deterministic pseudo-random payload, so every fork and run work with the same data.
+     *
+     * @param size
+     * @return
+     */
+    public static byte[] payload(final int size) {
+        final var data = new byte[size];
+        final var random = new SplittableRandom(size);
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) random.nextInt();
+        }
+        return data;
+    }
+
+    /**
+     * Counter reported by JMH as a rate next to the primary ops/s result. Benchmarks add the number of
+     * bytes processed on each invocation, so the {@code megabytes} column shows the throughput in MB/s.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+
+        private long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+
+        public void add(final int size) {
+            bytes += size;
+        }
+
+        public double megabytes() {
+            return bytes / MEGABYTE;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.cryptography.asymmetric;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.example.cryptography.Utils.CryptoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signatures verified per second by {@link RSABatchVerifier} against one {@link RSASignature#validate} call per
+ * signature, for batches of {@value #BATCH} signatures spread over a number of keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class RSABatchVerifyBenchmark {
+
+    private static final int BATCH = 1024;
+
+    @Param({"1", "16", "256"})
+    public int keys;
+
+    private List<RSABatchVerifier.Item> items;
+
+    private RSABatchVerifier verifier;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        final var keyPairs = new ArrayList<KeyPair>();
+        for (int i = 0; i < keys; i++) {
+            keyPairs.add(CryptoUtils.generateAsymmetricKeyPair());
+        }
+        items = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            final var keyPair = keyPairs.get(i % keys);
+            final var data = BenchmarkUtils.payload(64);
+            items.add(new RSABatchVerifier.Item(data, keyPair.getPublic().getEncoded(),
+                RSASignature.sign(data, keyPair.getPrivate())));
+        }
+        verifier = new RSABatchVerifier();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public boolean single() throws GeneralSecurityException {
+        var valid = true;
+        for (final var item : items) {
+            valid &= RSASignature.validate(item.data(), item.publicKey(), item.signature());
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public BitSet batch() throws GeneralSecurityException {
+        return verifier.verify(items);
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.cryptography.asymmetric;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.example.cryptography.Utils.CryptoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.cryptography.Utils.CryptoUtils.RSA;
+
+/**
+ * Baseline for the helpers in {@link RSAEncryptTest} and {@link RSAOAEPEncryptTest}. Keys are decoded with
+ * a {@link KeyFactory} on every call, exactly as the tests do.
+ * RSA only encrypts a single block, so payloads are bounded by the key size: 245 bytes for PKCS1 and
+ * 190 bytes for OAEP with SHA-256 using a 2048 bits key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RSABenchmark {
+
+    private static final OAEPParameterSpec OAEP_SPEC =
+        new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
+
+    @Param({"PKCS1", "OAEP"})
+    public String padding;
+
+    @Param({"16", "64", "190"})
+    public int size;
+
+    private byte[] publicKey;
+
+    private byte[] privateKey;
+
+    private byte[] plainData;
+
+    private byte[] encryptedData;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        final var keyPair = CryptoUtils.generateAsymmetricKeyPair();
+        publicKey = keyPair.getPublic().getEncoded();
+        privateKey = keyPair.getPrivate().getEncoded();
+        plainData = BenchmarkUtils.payload(size);
+        encryptedData = encrypt(plainData);
+    }
+
+    @Benchmark
+    public byte[] encrypt(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        return encrypt(plainData);
+    }
+
+    @Benchmark
+    public byte[] decrypt(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        final var keyFactory = KeyFactory.getInstance(RSA);
+        final var privateKeyCipher = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(privateKey));
+        final var cipher = newCipher();
+        if (isOAEP()) {
+            cipher.init(Cipher.DECRYPT_MODE, privateKeyCipher, OAEP_SPEC);
+        } else {
+            cipher.init(Cipher.DECRYPT_MODE, privateKeyCipher);
+        }
+        return cipher.doFinal(encryptedData);
+    }
+
+    private byte[] encrypt(final byte[] data) throws GeneralSecurityException {
+        final var keyFactory = KeyFactory.getInstance(RSA);
+        final var publicKeyCipher = keyFactory.generatePublic(new X509EncodedKeySpec(publicKey));
+        final var cipher = newCipher();
+        if (isOAEP()) {
+            cipher.init(Cipher.ENCRYPT_MODE, publicKeyCipher, OAEP_SPEC);
+        } else {
+            cipher.init(Cipher.ENCRYPT_MODE, publicKeyCipher);
+        }
+        return cipher.doFinal(data);
+    }
+
+    private Cipher newCipher() throws GeneralSecurityException {
+        return isOAEP()
+            ? Cipher.getInstance(RSAOAEPEncryptTest.ENCRYPT_ALGORITHM, "SunJCE")
+            : Cipher.getInstance(RSAEncryptTest.ENCRYPT_ALGORITHM);
+    }
+
+    private boolean isOAEP() {
+        return "OAEP".equals(padding);
+    }
+}
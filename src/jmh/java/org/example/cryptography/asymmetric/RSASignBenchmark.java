@@ -0,0 +1,95 @@
+package org.example.cryptography.asymmetric;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.example.cryptography.Utils.CryptoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.cryptography.Utils.CryptoUtils.RSA;
+
+/**
+ * Baseline for {@link RSASignTest} sign and validate helpers, decoding the keys on every call, against
+ * {@link RSASignature} decoding them through the {@link RSAKeyCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class RSASignBenchmark {
+
+    @Param({"16", "1024", "65536", "1048576", "16777216", "67108864"})
+    public int size;
+
+    private byte[] publicKey;
+
+    private byte[] privateKey;
+
+    private byte[] data;
+
+    private byte[] signature;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        final var keyPair = CryptoUtils.generateAsymmetricKeyPair();
+        publicKey = keyPair.getPublic().getEncoded();
+        privateKey = keyPair.getPrivate().getEncoded();
+        data = BenchmarkUtils.payload(size);
+        signature = sign();
+    }
+
+    @Benchmark
+    public byte[] sign(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        return sign();
+    }
+
+    @Benchmark
+    public boolean validate(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        final var keyFactory = KeyFactory.getInstance(RSA);
+        final var publicKeyCipher = keyFactory.generatePublic(new X509EncodedKeySpec(publicKey));
+        final var verifier = Signature.getInstance(RSASignTest.SIGN_ALGORITHM);
+        verifier.initVerify(publicKeyCipher);
+        verifier.update(data);
+        return verifier.verify(signature);
+    }
+
+    @Benchmark
+    public byte[] signCached(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        return RSASignature.sign(data, privateKey);
+    }
+
+    @Benchmark
+    public boolean validateCached(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        return RSASignature.validate(data, publicKey, signature);
+    }
+
+    private byte[] sign() throws GeneralSecurityException {
+        final var keyFactory = KeyFactory.getInstance(RSA);
+        final var privateKeyCipher = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(privateKey));
+        final var signer = Signature.getInstance(RSASignTest.SIGN_ALGORITHM);
+        signer.initSign(privateKeyCipher);
+        signer.update(data);
+        return signer.sign();
+    }
+}
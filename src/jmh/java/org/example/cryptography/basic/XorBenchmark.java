@@ -0,0 +1,78 @@
+package org.example.cryptography.basic;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The former {@code XorUtils.xor}, one byte at a time with a modulo per byte, against {@link XorEngine} on arrays
+ * and direct buffers. A key size of 0 uses a key as long as the data (one-time pad).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class XorBenchmark {
+
+    @Param({"1024", "65536", "16777216"})
+    public int size;
+
+    @Param({"0", "16"})
+    public int keySize;
+
+    private byte[] data;
+
+    private byte[] key;
+
+    private byte[] output;
+
+    private ByteBuffer directData;
+
+    private ByteBuffer directOutput;
+
+    @Setup
+    public void setup() {
+        data = BenchmarkUtils.payload(size);
+        key = BenchmarkUtils.payload(keySize == 0 ? size : keySize);
+        output = new byte[size];
+        directData = ByteBuffer.allocateDirect(size).put(data).flip();
+        directOutput = ByteBuffer.allocateDirect(size);
+    }
+
+    @Benchmark
+    public byte[] bytes(final BenchmarkUtils.Throughput throughput) {
+        throughput.add(size);
+        for (int i = 0; i < data.length; i++) {
+            output[i] = (byte) (data[i] ^ key[i % key.length]);
+        }
+        return output;
+    }
+
+    @Benchmark
+    public byte[] longWords(final BenchmarkUtils.Throughput throughput) {
+        throughput.add(size);
+        XorEngine.xor(data, 0, size, key, 0, output, 0);
+        return output;
+    }
+
+    @Benchmark
+    public ByteBuffer directBuffers(final BenchmarkUtils.Throughput throughput) {
+        throughput.add(size);
+        XorEngine.xor(directData.rewind(), key, 0, directOutput.clear());
+        return directOutput;
+    }
+}
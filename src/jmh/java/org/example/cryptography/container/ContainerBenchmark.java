@@ -0,0 +1,76 @@
+package org.example.cryptography.container;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.example.cryptography.Utils.CryptoUtils;
+import org.example.cryptography.encoding.Base64Codec;
+import org.example.cryptography.symmetric.AESCipher;
+import org.example.cryptography.symmetric.AESMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decryption of AES/GCM data received as a {@link Container} in a direct buffer, against the nonce and the
+ * ciphertext received as separate Base64 strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ContainerBenchmark {
+
+    @Param({"64", "1024", "65536"})
+    public int size;
+
+    private SecretKey symmetricKey;
+
+    private String nonce;
+
+    private String encrypted;
+
+    private ByteBuffer container;
+
+    private ByteBuffer output;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        final var data = BenchmarkUtils.payload(size);
+        symmetricKey = CryptoUtils.generateSymmetricKey();
+        final var iv = new byte[AESCipher.GCM_NONCE_SIZE];
+        nonce = Base64Codec.STANDARD.encode(iv);
+        encrypted = Base64Codec.STANDARD.encode(AESCipher.encrypt(AESMode.GCM, data, symmetricKey, iv));
+
+        final var bytes = ContainerCipher.encrypt(ContainerAlgorithm.AES_GCM, new byte[]{1}, symmetricKey, data);
+        container = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        output = ByteBuffer.allocateDirect(size);
+    }
+
+    @Benchmark
+    public byte[] decryptStrings(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        return AESCipher.decrypt(AESMode.GCM, Base64Codec.STANDARD.decode(encrypted), symmetricKey,
+            Base64Codec.STANDARD.decode(nonce));
+    }
+
+    @Benchmark
+    public int decryptContainer(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        output.clear();
+        return ContainerCipher.decrypt(container.duplicate(), (algorithm, keyId) -> symmetricKey, output);
+    }
+}
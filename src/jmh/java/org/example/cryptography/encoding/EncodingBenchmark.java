@@ -0,0 +1,109 @@
+package org.example.cryptography.encoding;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The former {@code EncodeUtils} hex encoding, formatting every byte and splitting lines with a regex, against
+ * the {@link Hex} tables, and the {@link Base64} of the JDK against {@link Base64Codec} into preallocated targets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodingBenchmark {
+
+    private static final int LINE_LENGTH = 16;
+
+    @Param({"32", "1024", "65536"})
+    public int size;
+
+    private byte[] data;
+
+    private char[] chars;
+
+    private ByteBuffer input;
+
+    private ByteBuffer output;
+
+    @Setup
+    public void setup() {
+        data = BenchmarkUtils.payload(size);
+        chars = new char[Base64Codec.encodedLength(size) + size * 2];
+        input = ByteBuffer.allocateDirect(size);
+        input.put(data).flip();
+        output = ByteBuffer.allocateDirect(Base64Codec.encodedLength(size));
+    }
+
+    @Benchmark
+    public String hexFormat(final BenchmarkUtils.Throughput throughput) {
+        throughput.add(size);
+        final var result = new StringBuilder();
+        for (final var b : data) {
+            result.append(String.format("%02x", b));
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    public String hexTable(final BenchmarkUtils.Throughput throughput) {
+        throughput.add(size);
+        return Hex.encode(data);
+    }
+
+    @Benchmark
+    public String hexLinesRegex(final BenchmarkUtils.Throughput throughput) {
+        throughput.add(size);
+        final var hex = Hex.encode(data);
+        return String.join("\n", hex.split(String.format("(?<=\\G.{%d})", LINE_LENGTH)));
+    }
+
+    @Benchmark
+    public String hexLinesTable(final BenchmarkUtils.Throughput throughput) {
+        throughput.add(size);
+        return Hex.encodeLines(data, LINE_LENGTH);
+    }
+
+    @Benchmark
+    public String base64String(final BenchmarkUtils.Throughput throughput) {
+        throughput.add(size);
+        return new String(Base64.getEncoder().encode(data), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String base64Codec(final BenchmarkUtils.Throughput throughput) {
+        throughput.add(size);
+        return Base64Codec.STANDARD.encode(data);
+    }
+
+    @Benchmark
+    public char[] base64Chars(final BenchmarkUtils.Throughput throughput) {
+        throughput.add(size);
+        Base64Codec.STANDARD.encode(data, 0, size, chars, 0);
+        return chars;
+    }
+
+    @Benchmark
+    public ByteBuffer base64DirectBuffer(final BenchmarkUtils.Throughput throughput) {
+        throughput.add(size);
+        Base64Codec.STANDARD.encode(input.rewind(), output.clear());
+        return output;
+    }
+}
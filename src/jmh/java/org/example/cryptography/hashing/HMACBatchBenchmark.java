@@ -0,0 +1,80 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.example.cryptography.Utils.EncodeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests verified per second as {@link HMACTest} does, a new {@link Mac} per message and Base64 strings
+ * compared, against {@link HMACBatch}, for batches of {@value #BATCH} requests of 256 bytes from 16 clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class HMACBatchBenchmark {
+
+    private static final int BATCH = 1024;
+
+    private static final int CLIENTS = 16;
+
+    private final Map<String, byte[]> keys = new HashMap<>();
+
+    private List<HMACBatch.Message> messages;
+
+    private HMACBatch hmacBatch;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        for (int i = 0; i < CLIENTS; i++) {
+            keys.put("client-" + i, BenchmarkUtils.payload(32));
+        }
+        messages = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            final var keyId = "client-" + i % CLIENTS;
+            final var data = BenchmarkUtils.payload(256);
+            messages.add(new HMACBatch.Message(keyId, data, HMAC.hmac(data, keys.get(keyId))));
+        }
+        hmacBatch = new HMACBatch(keys::get);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public boolean single() throws GeneralSecurityException {
+        var valid = true;
+        for (final var message : messages) {
+            final var mac = Mac.getInstance(HMAC.HASH_ALGORITHM);
+            mac.init(new SecretKeySpec(keys.get(message.keyId()), HMAC.HASH_ALGORITHM));
+            valid &= EncodeUtils.encode(mac.doFinal(message.data())).equals(EncodeUtils.encode(message.mac()));
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public BitSet batch() throws GeneralSecurityException {
+        return hmacBatch.verify(messages).valid();
+    }
+}
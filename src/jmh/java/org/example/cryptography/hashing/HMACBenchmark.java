@@ -0,0 +1,64 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.example.cryptography.Utils.EncodeUtils;
+import org.example.cryptography.Utils.HashUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.cryptography.hashing.HMACTest.HASH_ALGORITHM;
+
+/**
+ * Baseline for {@link HMACTest} hmac helper, creating and initializing the {@link Mac} on every call, against
+ * the initialized mac per key and thread of the {@link MacPool}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class HMACBenchmark {
+
+    @Param({"16", "1024", "65536", "1048576", "16777216", "67108864"})
+    public int size;
+
+    private byte[] data;
+
+    private final byte[] key = "mySharedKey".getBytes();
+
+    @Setup
+    public void setup() {
+        data = BenchmarkUtils.payload(size);
+    }
+
+    @Benchmark
+    public HashUtils.HashData hmac(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        final var spec = new SecretKeySpec(key, HASH_ALGORITHM);
+        final var mac = Mac.getInstance(HASH_ALGORITHM);
+        mac.init(spec);
+        final var hmac = mac.doFinal(data);
+        return new HashUtils.HashData(data, hmac, EncodeUtils.encode(hmac));
+    }
+
+    @Benchmark
+    public byte[] hmacPooled(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        return HMAC.hmac(data, key);
+    }
+}
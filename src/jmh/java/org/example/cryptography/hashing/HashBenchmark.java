@@ -0,0 +1,67 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.example.cryptography.Utils.CryptoUtils;
+import org.example.cryptography.Utils.EncodeUtils;
+import org.example.cryptography.Utils.HashUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.cryptography.hashing.HashTest.DEFAULT_HASH_ALGORITHM;
+
+/**
+ * Baseline for {@link HashTest} hash and hashWithSalt helpers, including the {@link HashUtils.HashData}
+ * result with its Base64 representation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class HashBenchmark {
+
+    @Param({"16", "1024", "65536", "1048576", "16777216", "67108864"})
+    public int size;
+
+    private byte[] data;
+
+    private byte[] salt;
+
+    @Setup
+    public void setup() {
+        data = BenchmarkUtils.payload(size);
+        salt = CryptoUtils.getRandomNonce();
+    }
+
+    @Benchmark
+    public HashUtils.HashData hash(final BenchmarkUtils.Throughput throughput) throws NoSuchAlgorithmException {
+        throughput.add(size);
+        final var messageDigest = MessageDigest.getInstance(DEFAULT_HASH_ALGORITHM);
+        final var hash = messageDigest.digest(data);
+        return new HashUtils.HashData(data, hash, EncodeUtils.encode(hash));
+    }
+
+    @Benchmark
+    public HashUtils.HashData hashWithSalt(final BenchmarkUtils.Throughput throughput)
+        throws NoSuchAlgorithmException {
+        throughput.add(size);
+        final var messageDigest = MessageDigest.getInstance(DEFAULT_HASH_ALGORITHM);
+        messageDigest.update(salt);
+        final var hash = messageDigest.digest(data);
+        return new HashUtils.HashData(data, hash, EncodeUtils.encode(hash));
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hash of a file read whole into the heap (as {@code HashTest} would need) against {@link IncrementalHash} reading
+ * it in direct buffer chunks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class IncrementalHashBenchmark {
+
+    @Param({"1048576", "67108864"})
+    public int size;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.write(Files.createTempFile("hash", ".bin"), BenchmarkUtils.payload(size));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public byte[] readAllBytes(final BenchmarkUtils.Throughput throughput) throws IOException {
+        throughput.add(size);
+        return Hash.hash(Files.readAllBytes(file));
+    }
+
+    @Benchmark
+    public byte[] incremental(final BenchmarkUtils.Throughput throughput) throws IOException {
+        throughput.add(size);
+        return IncrementalHash.hash(file);
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of the {@link MerkleTree} of a file with the number of threads of the pool, against a single SHA-256
+ * stream with {@link IncrementalHash}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class MerkleTreeBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    @Param({"268435456"})
+    public int size;
+
+    @Param({"1048576"})
+    public int leafSize;
+
+    private ForkJoinPool pool;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        pool = new ForkJoinPool(threads);
+        file = Files.write(Files.createTempFile("merkle", ".bin"), BenchmarkUtils.payload(size));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public byte[] merkleTree(final BenchmarkUtils.Throughput throughput) throws IOException {
+        throughput.add(size);
+        return MerkleTree.build(file, leafSize, pool).root();
+    }
+
+    @Benchmark
+    public byte[] singleStream(final BenchmarkUtils.Throughput throughput) throws IOException {
+        throughput.add(size);
+        return IncrementalHash.hash(file);
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.example.cryptography.Utils.CryptoUtils;
+import org.example.cryptography.Utils.EncodeUtils;
+import org.example.cryptography.Utils.HashUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.cryptography.hashing.PBKDF2Test.HASH_ALGORITHM;
+import static org.example.cryptography.hashing.PBKDF2Test.ITERATION_COUNT;
+import static org.example.cryptography.hashing.PBKDF2Test.KEY_LENGTH;
+
+/**
+ * Baseline for {@link PBKDF2Test} hash helper. The cost is dominated by the iterations, not by the
+ * password length, so only password-like payloads are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PBKDF2Benchmark {
+
+    @Param({"16", "64", "1024"})
+    public int size;
+
+    private String password;
+
+    private byte[] salt;
+
+    private DerivedKeyCache derivedKeyCache;
+
+    @Setup
+    public void setup() {
+        password = EncodeUtils.encode(BenchmarkUtils.payload(size)).substring(0, size);
+        salt = CryptoUtils.getRandomNonce();
+        derivedKeyCache = new DerivedKeyCache();
+    }
+
+    @Benchmark
+    public HashUtils.HashData hash(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        final var spec = new PBEKeySpec(password.toCharArray(), salt, ITERATION_COUNT, KEY_LENGTH);
+        final var factory = SecretKeyFactory.getInstance(HASH_ALGORITHM);
+        final var hash = factory.generateSecret(spec).getEncoded();
+        return new HashUtils.HashData(password.getBytes(), hash, EncodeUtils.encode(hash));
+    }
+
+    /**
+     * Repeated unlocks of the same vault: only the first one pays the key stretching.
+     */
+    @Benchmark
+    public byte[] deriveCached(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        return derivedKeyCache.derive(HASH_ALGORITHM, password.toCharArray(), salt, ITERATION_COUNT, KEY_LENGTH);
+    }
+}
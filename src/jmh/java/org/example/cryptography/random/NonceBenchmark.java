@@ -0,0 +1,60 @@
+package org.example.cryptography.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nonces per second generated with a new {@link SecureRandom} per call (as {@code CryptoUtils.getRandomNonce()}
+ * did), a shared {@link SecureRandom}, the per-thread buffered DRBG of {@link NonceGenerator} and the
+ * {@link CounterNonceGenerator}, from several threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class NonceBenchmark {
+
+    private static final int NONCE_SIZE = 12;
+
+    private final SecureRandom shared = new SecureRandom();
+
+    private final CounterNonceGenerator counter = new CounterNonceGenerator();
+
+    @Benchmark
+    public byte[] newSecureRandom() {
+        final var nonce = new byte[NONCE_SIZE];
+        new SecureRandom().nextBytes(nonce);
+        return nonce;
+    }
+
+    @Benchmark
+    public byte[] sharedSecureRandom() {
+        final var nonce = new byte[NONCE_SIZE];
+        shared.nextBytes(nonce);
+        return nonce;
+    }
+
+    @Benchmark
+    public byte[] threadLocalDrbg() {
+        return NonceGenerator.random(NONCE_SIZE);
+    }
+
+    @Benchmark
+    public byte[] counter() {
+        return counter.next();
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.example.cryptography.Utils.CryptoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import java.security.GeneralSecurityException;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Baseline for the AES helpers in {@link AESECBTest}, {@link AESCBCTest} and {@link AESGCMTest}: a new
+ * {@link Cipher} is created and initialized on every call, exactly as the tests do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class AESBenchmark {
+
+    @Param({"ECB", "CBC", "GCM", "CTR"})
+    public String mode;
+
+    // All sizes are multiple of 16 bytes, since ECB and CBC are used with NoPadding
+    @Param({"16", "1024", "65536", "1048576", "16777216", "67108864"})
+    public int size;
+
+    private String algorithm;
+
+    private SecretKey symmetricKey;
+
+    private byte[] iv;
+
+    private byte[] plainData;
+
+    private byte[] encryptedData;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        algorithm = switch (mode) {
+            case "ECB" -> AESECBTest.ENCRYPT_ALGORITHM;
+            case "CBC" -> AESCBCTest.ENCRYPT_ALGORITHM;
+            default -> AESGCMTest.ENCRYPT_ALGORITHM;
+        };
+        symmetricKey = CryptoUtils.generateSymmetricKey();
+        iv = CryptoUtils.getRandomNonce();
+        plainData = BenchmarkUtils.payload(size);
+        encryptedData = encrypt(plainData);
+    }
+
+    @Benchmark
+    public byte[] encrypt(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        return encrypt(plainData);
+    }
+
+    @Benchmark
+    public byte[] decrypt(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        final var decryptionCipher = Cipher.getInstance(algorithm);
+        init(decryptionCipher, Cipher.DECRYPT_MODE);
+        return decryptionCipher.doFinal(encryptedData);
+    }
+
+    private byte[] encrypt(final byte[] data) throws GeneralSecurityException {
+        final var encryptionCipher = Cipher.getInstance(algorithm);
+        init(encryptionCipher, Cipher.ENCRYPT_MODE);
+        return encryptionCipher.doFinal(data);
+    }
+
+    private void init(final Cipher cipher, final int opMode) throws GeneralSecurityException {
+        if ("ECB".equals(mode)) {
+            cipher.init(opMode, symmetricKey);
+            return;
+        }
+        final AlgorithmParameterSpec spec = "GCM".equals(mode)
+            ? new GCMParameterSpec(AESGCMTest.AUTHENTICATION_TAG_SIZE, iv)
+            : new IvParameterSpec(iv);
+        cipher.init(opMode, symmetricKey, spec);
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.example.cryptography.Utils.CryptoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * File encryption with {@link AsyncFileEncryption}, overlapping I/O and encryption, against the blocking
+ * {@link StreamingAESGCM} streams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class AsyncFileEncryptionBenchmark {
+
+    @Param({"67108864"})
+    public int size;
+
+    @Param({"1", "4", "16"})
+    public int ringSize;
+
+    private Path folder;
+
+    private Path source;
+
+    private Path target;
+
+    private StreamingAESGCM streamingAESGCM;
+
+    private AsyncFileEncryption asyncFileEncryption;
+
+    @Setup
+    public void setup() throws GeneralSecurityException, IOException {
+        folder = Files.createTempDirectory("async-file-encryption");
+        source = Files.write(folder.resolve("plain.bin"), BenchmarkUtils.payload(size));
+        target = folder.resolve("encrypted.bin");
+        final var symmetricKey = CryptoUtils.generateSymmetricKey();
+        streamingAESGCM = new StreamingAESGCM(symmetricKey);
+        asyncFileEncryption = new AsyncFileEncryption(symmetricKey, StreamingAESGCM.DEFAULT_SEGMENT_SIZE, ringSize,
+            null);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(source);
+        Files.deleteIfExists(target);
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void encryptStream(final BenchmarkUtils.Throughput throughput) throws IOException {
+        throughput.add(size);
+        try (var in = Files.newInputStream(source); var out = Files.newOutputStream(target)) {
+            streamingAESGCM.encrypt(in, out);
+        }
+    }
+
+    @Benchmark
+    public long encryptAsync(final BenchmarkUtils.Throughput throughput)
+        throws IOException, ExecutionException, InterruptedException {
+        throughput.add(size);
+        return asyncFileEncryption.encrypt(source, target).get();
+    }
+}
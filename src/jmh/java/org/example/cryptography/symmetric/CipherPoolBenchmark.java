@@ -0,0 +1,103 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.example.cryptography.Utils.CryptoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a new {@link Cipher} per message (as the tests do) against the {@link CipherPool} used by
+ * {@link AESCipher}, for small payloads where the provider lookup dominates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CipherPoolBenchmark {
+
+    @Param({"ECB", "CBC", "GCM"})
+    public AESMode mode;
+
+    @Param({"1024"})
+    public int size;
+
+    private SecretKey symmetricKey;
+
+    private byte[] iv;
+
+    private byte[] plainData;
+
+    private byte[] encryptedData;
+
+    private long counter;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        symmetricKey = CryptoUtils.generateSymmetricKey();
+        iv = CryptoUtils.getRandomNonce();
+        plainData = BenchmarkUtils.payload(size);
+        encryptedData = AESCipher.encrypt(mode, plainData, symmetricKey, iv);
+    }
+
+    @Benchmark
+    public byte[] encryptNewCipher() throws GeneralSecurityException {
+        final var cipher = Cipher.getInstance(mode.transformation());
+        final var spec = mode.parameterSpec(nextIv());
+        if (spec == null) {
+            cipher.init(Cipher.ENCRYPT_MODE, symmetricKey);
+        } else {
+            cipher.init(Cipher.ENCRYPT_MODE, symmetricKey, spec);
+        }
+        return cipher.doFinal(plainData);
+    }
+
+    @Benchmark
+    public byte[] encryptPooledCipher() throws GeneralSecurityException {
+        return AESCipher.encrypt(mode, plainData, symmetricKey, nextIv());
+    }
+
+    @Benchmark
+    public byte[] decryptNewCipher() throws GeneralSecurityException {
+        final var cipher = Cipher.getInstance(mode.transformation());
+        final var spec = mode.parameterSpec(iv);
+        if (spec == null) {
+            cipher.init(Cipher.DECRYPT_MODE, symmetricKey);
+        } else {
+            cipher.init(Cipher.DECRYPT_MODE, symmetricKey, spec);
+        }
+        return cipher.doFinal(encryptedData);
+    }
+
+    @Benchmark
+    public byte[] decryptPooledCipher() throws GeneralSecurityException {
+        return AESCipher.decrypt(mode, encryptedData, symmetricKey, iv);
+    }
+
+    /**
+     * GCM does not allow to initialize the same cipher for encryption with the previous key and iv,
+     * so a counter is written into the iv for every message.
+     */
+    private byte[] nextIv() {
+        final var value = ++counter;
+        for (int i = 0; i < Long.BYTES; i++) {
+            iv[i] = (byte) (value >>> (i * 8));
+        }
+        return iv;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.example.cryptography.Utils.CryptoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of {@link ParallelAESGCM} with the number of threads of the pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ParallelAESGCMBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    @Param({"67108864"})
+    public int size;
+
+    @Param({"1048576"})
+    public int chunkSize;
+
+    private ForkJoinPool pool;
+
+    private ParallelAESGCM parallelAESGCM;
+
+    private byte[] plainData;
+
+    private byte[] encryptedData;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        pool = new ForkJoinPool(threads);
+        parallelAESGCM = new ParallelAESGCM(CryptoUtils.generateSymmetricKey(), chunkSize, pool);
+        plainData = BenchmarkUtils.payload(size);
+        encryptedData = parallelAESGCM.encrypt(plainData);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public byte[] encrypt(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        return parallelAESGCM.encrypt(plainData);
+    }
+
+    @Benchmark
+    public byte[] decrypt(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        return parallelAESGCM.decrypt(encryptedData);
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.Utils.BenchmarkUtils;
+import org.example.cryptography.Utils.CryptoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of {@link ParallelCBC} decryption with the number of threads of the pool, against a single
+ * {@link AESCipher} call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ParallelCBCBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    @Param({"67108864"})
+    public int size;
+
+    @Param({"1048576"})
+    public int chunkSize;
+
+    private ForkJoinPool pool;
+
+    private ParallelCBC parallelCBC;
+
+    private SecretKey symmetricKey;
+
+    private byte[] iv;
+
+    private byte[] encryptedData;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        pool = new ForkJoinPool(threads);
+        symmetricKey = CryptoUtils.generateSymmetricKey();
+        parallelCBC = new ParallelCBC(symmetricKey, chunkSize, pool);
+        iv = CryptoUtils.getRandomNonce();
+        encryptedData = AESCipher.encrypt(AESMode.CBC, BenchmarkUtils.payload(size), symmetricKey, iv);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public byte[] decryptSerial(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        return AESCipher.decrypt(AESMode.CBC, encryptedData, symmetricKey, iv);
+    }
+
+    @Benchmark
+    public byte[] decrypt(final BenchmarkUtils.Throughput throughput) throws GeneralSecurityException {
+        throughput.add(size);
+        return parallelCBC.decrypt(encryptedData, iv);
+    }
+}
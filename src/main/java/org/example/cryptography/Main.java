@@ -1,7 +1,61 @@
 package org.example.cryptography;
 
+import org.example.cryptography.concurrent.TaskExecutors;
+import org.example.cryptography.hashing.PBKDF2Calibration;
+import org.example.cryptography.server.CryptoLoadTest;
+import org.example.cryptography.server.CryptoServer;
+import org.example.cryptography.server.CryptoService;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Local crypto service:
+ * <pre>
+ * serve [port]                                            start the server on localhost
+ * load-test [connections] [requests] [operation] [port]   run the load test, against an embedded server if no port
+ * </pre>
+ */
 public class Main {
-    public static void main(String[] args) {
-        System.out.println("Hello world!");
+
+    public static void main(String[] args) throws Exception {
+        final var command = args.length > 0 ? args[0] : "";
+        switch (command) {
+            case "serve" -> serve(args.length > 1 ? Integer.parseInt(args[1]) : 7070);
+            case "load-test" -> loadTest(args.length > 1 ? Integer.parseInt(args[1]) : 1000,
+                args.length > 2 ? Integer.parseInt(args[2]) : 100,
+                args.length > 3 ? CryptoService.Operation.valueOf(args[3]) : CryptoService.Operation.ENCRYPT,
+                args.length > 4 ? Integer.parseInt(args[4]) : -1);
+            default -> {
+                System.out.println("Usage: serve [port]");
+                System.out.println("       load-test [connections] [requests] [ENCRYPT|SIGN|HASH] [port]");
+            }
+        }
+    }
+
+    private static CryptoService newService() throws Exception {
+        final var parameters = PBKDF2Calibration.calibrate();
+        System.out.printf("Virtual threads: %s, password hashing: %s\n", TaskExecutors.hasVirtualThreads(),
+            parameters);
+        return new CryptoService(CryptoService.DEFAULT_PERMITS, parameters);
+    }
+
+    private static void serve(final int port) throws Exception {
+        try (var service = newService(); var server = new CryptoServer(service, port)) {
+            server.start();
+            System.out.printf("Listening on localhost:%d\n", server.port());
+            new CountDownLatch(1).await();
+        }
+    }
+
+    private static void loadTest(final int connections, final int requests, final CryptoService.Operation operation,
+                                 final int port) throws Exception {
+        if (port > 0) {
+            System.out.println(CryptoLoadTest.run(port, connections, requests, operation));
+            return;
+        }
+        try (var service = newService(); var server = new CryptoServer(service, 0)) {
+            server.start();
+            System.out.println(CryptoLoadTest.run(server.port(), connections, requests, operation));
+        }
     }
-}
\ No newline at end of file
+}
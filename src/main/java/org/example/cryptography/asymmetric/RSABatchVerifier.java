@@ -0,0 +1,117 @@
+package org.example.cryptography.asymmetric;
+
+import org.example.cryptography.concurrent.ParallelTasks;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Verify many RSA signatures at once. The items are grouped by public key, so every key is decoded once and each
+ * worker reuses its {@link Signature}, and the groups are verified concurrently on a
+ * {@link ForkJoinPool}. Groups larger than the batch size are split, so a single busy key still uses every worker.
+ */
+public final class RSABatchVerifier {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final ForkJoinPool pool;
+
+    private final int batchSize;
+
+    private final RSAKeyCache keyCache;
+
+    public RSABatchVerifier() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE, RSAKeyCache.DEFAULT);
+    }
+
+    /**
+     * @param pool      pool used to verify the batches.
+     * @param batchSize maximum number of items of the same key verified by a single task.
+     * @param keyCache  cache used to decode the public keys.
+     */
+    public RSABatchVerifier(final ForkJoinPool pool, final int batchSize, final RSAKeyCache keyCache) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.pool = pool;
+        this.batchSize = batchSize;
+        this.keyCache = keyCache;
+    }
+
+    /**
+     * Signature to verify.
+     *
+     * @param data      signed data.
+     * @param publicKey X.509 encoded public key.
+     * @param signature signature of the data.
+     */
+    public record Item(byte[] data, byte[] publicKey, byte[] signature) {
+    }
+
+    /**
+     * Verify every item. Items with an invalid public key or a malformed signature are reported as not valid
+     * instead of failing the whole batch.
+     *
+     * @param items
+     * @return bitmap with the bit of every valid item set, in the order of the items.
+     * @throws GeneralSecurityException
+     */
+    public BitSet verify(final List<Item> items) throws GeneralSecurityException {
+        final var batches = batches(items);
+        final var valid = new boolean[items.size()];
+
+        ParallelTasks.forEach(pool, batches.size(), index -> {
+            final var batch = batches.get(index);
+            try {
+                final var publicKey = keyCache.publicKey(batch.publicKey());
+                final var verifier = RSASignature.signature();
+                for (final var position : batch.positions()) {
+                    valid[position] = verify(verifier, items.get(position), publicKey);
+                }
+            } catch (GeneralSecurityException e) {
+                // The public key cannot be decoded, none of its signatures are valid
+            }
+        });
+
+        final var result = new BitSet(valid.length);
+        for (int i = 0; i < valid.length; i++) {
+            result.set(i, valid[i]);
+        }
+        return result;
+    }
+
+    private static boolean verify(final Signature verifier, final Item item, final PublicKey publicKey) {
+        try {
+            return RSASignature.validate(verifier, item.data(), publicKey, item.signature());
+        } catch (GeneralSecurityException e) {
+            return false;
+        }
+    }
+
+    private List<Batch> batches(final List<Item> items) {
+        final var groups = new LinkedHashMap<ByteBuffer, List<Integer>>();
+        for (int i = 0; i < items.size(); i++) {
+            groups.computeIfAbsent(ByteBuffer.wrap(items.get(i).publicKey()), key -> new ArrayList<>()).add(i);
+        }
+
+        final var batches = new ArrayList<Batch>();
+        for (final var group : groups.entrySet()) {
+            final var positions = group.getValue();
+            for (int from = 0; from < positions.size(); from += batchSize) {
+                batches.add(new Batch(group.getKey().array(),
+                    positions.subList(from, Math.min(from + batchSize, positions.size()))));
+            }
+        }
+        return batches;
+    }
+
+    private record Batch(byte[] publicKey, List<Integer> positions) {
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.cryptography.asymmetric;
+
+import org.example.cryptography.symmetric.CipherPool;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+
+/**
+ * Encrypt and decrypt a single block with RSA, using the {@link CipherPool} so the {@link Cipher} is only
+ * created once per thread.
+ */
+public final class RSACipher {
+
+    private RSACipher() {
+    }
+
+    /**
+     * @param padding
+     * @param data      up to 245 bytes (PKCS1) or 190 bytes (OAEP) for 2048 bits keys.
+     * @param publicKey
+     * @return the encrypted data.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] encrypt(final RSAPadding padding, final byte[] data, final PublicKey publicKey)
+        throws GeneralSecurityException {
+        return init(padding, Cipher.ENCRYPT_MODE, publicKey).doFinal(data);
+    }
+
+    /**
+     * @param padding
+     * @param data
+     * @param privateKey
+     * @return the decrypted data.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] decrypt(final RSAPadding padding, final byte[] data, final PrivateKey privateKey)
+        throws GeneralSecurityException {
+        return init(padding, Cipher.DECRYPT_MODE, privateKey).doFinal(data);
+    }
+
+    /**
+     * @param padding
+     * @param data
+     * @param publicKey X.509 encoded public key, decoded through the {@link RSAKeyCache}.
+     * @return the encrypted data.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] encrypt(final RSAPadding padding, final byte[] data, final byte[] publicKey)
+        throws GeneralSecurityException {
+        return encrypt(padding, data, RSAKeyCache.DEFAULT.publicKey(publicKey));
+    }
+
+    /**
+     * @param padding
+     * @param data
+     * @param privateKey PKCS#8 encoded private key, decoded through the {@link RSAKeyCache}.
+     * @return the decrypted data.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] decrypt(final RSAPadding padding, final byte[] data, final byte[] privateKey)
+        throws GeneralSecurityException {
+        return decrypt(padding, data, RSAKeyCache.DEFAULT.privateKey(privateKey));
+    }
+
+    /**
+     * @param padding
+     * @param publicKey
+     * @param input     remaining bytes are consumed.
+     * @param output    the encrypted data is written at the current position.
+     * @return the number of bytes written.
+     * @throws GeneralSecurityException
+     */
+    public static int encrypt(final RSAPadding padding, final PublicKey publicKey,
+                              final ByteBuffer input, final ByteBuffer output) throws GeneralSecurityException {
+        return init(padding, Cipher.ENCRYPT_MODE, publicKey).doFinal(input, output);
+    }
+
+    /**
+     * @param padding
+     * @param privateKey
+     * @param input      remaining bytes are consumed.
+     * @param output     the decrypted data is written at the current position.
+     * @return the number of bytes written.
+     * @throws GeneralSecurityException
+     */
+    public static int decrypt(final RSAPadding padding, final PrivateKey privateKey,
+                              final ByteBuffer input, final ByteBuffer output) throws GeneralSecurityException {
+        return init(padding, Cipher.DECRYPT_MODE, privateKey).doFinal(input, output);
+    }
+
+    /**
+     * RSA should only encrypt small data such as symmetric keys (key wrapping).
+     *
+     * @param padding
+     * @param secretKey key to be wrapped.
+     * @param publicKey
+     * @return the wrapped key.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] wrap(final RSAPadding padding, final SecretKey secretKey, final PublicKey publicKey)
+        throws GeneralSecurityException {
+        return init(padding, Cipher.WRAP_MODE, publicKey).wrap(secretKey);
+    }
+
+    /**
+     * @param padding
+     * @param wrappedKey
+     * @param algorithm  algorithm of the wrapped key, i.e. AES.
+     * @param privateKey
+     * @return the unwrapped key.
+     * @throws GeneralSecurityException
+     */
+    public static SecretKey unwrap(final RSAPadding padding, final byte[] wrappedKey, final String algorithm,
+                                   final PrivateKey privateKey) throws GeneralSecurityException {
+        final var cipher = init(padding, Cipher.UNWRAP_MODE, privateKey);
+        return (SecretKey) cipher.unwrap(wrappedKey, algorithm, Cipher.SECRET_KEY);
+    }
+
+    static Cipher init(final RSAPadding padding, final int opmode, final Key key) throws GeneralSecurityException {
+        final var cipher = CipherPool.get(padding.transformation(), padding.provider());
+        if (padding.parameterSpec() == null) {
+            cipher.init(opmode, key);
+        } else {
+            cipher.init(opmode, key, padding.parameterSpec());
+        }
+        return cipher;
+    }
+}
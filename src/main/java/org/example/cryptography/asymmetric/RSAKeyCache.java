@@ -0,0 +1,103 @@
+package org.example.cryptography.asymmetric;
+
+import org.example.cryptography.cache.ExpiringCache;
+import org.example.cryptography.hashing.Hash;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+
+/**
+ * Cache of RSA keys decoded by the {@link KeyFactory}, keyed by the SHA-256 digest of the encoded key.
+ * Decoding a key parses the ASN.1 structure and sets up the CRT parameters on every call, so keys received
+ * encoded (X.509 public keys and PKCS#8 private keys) are decoded once and reused while they are cached.
+ */
+public final class RSAKeyCache {
+
+    public static final String RSA = "RSA";
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1);
+
+    /**
+     * Cache shared by {@link RSACipher} and {@link RSASignature} for the encoded keys overloads.
+     */
+    public static final RSAKeyCache DEFAULT = new RSAKeyCache(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+
+    private static final ThreadLocal<KeyFactory> KEY_FACTORIES = ThreadLocal.withInitial(() -> {
+        try {
+            return KeyFactory.getInstance(RSA);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final ExpiringCache<ByteBuffer, PublicKey> publicKeys;
+
+    private final ExpiringCache<ByteBuffer, PrivateKey> privateKeys;
+
+    /**
+     * @param maximumSize maximum number of public and private keys (each one) cached.
+     * @param timeToLive  time a decoded key is cached.
+     */
+    public RSAKeyCache(final int maximumSize, final Duration timeToLive) {
+        this.publicKeys = ExpiringCache.<ByteBuffer, PublicKey>builder()
+            .maximumSize(maximumSize)
+            .timeToLive(timeToLive)
+            .build();
+        this.privateKeys = ExpiringCache.<ByteBuffer, PrivateKey>builder()
+            .maximumSize(maximumSize)
+            .timeToLive(timeToLive)
+            .build();
+    }
+
+    /**
+     * @param encoded X.509 encoded public key.
+     * @return the decoded public key.
+     * @throws GeneralSecurityException if the key cannot be decoded.
+     */
+    public PublicKey publicKey(final byte[] encoded) throws GeneralSecurityException {
+        return publicKeys.get(keyId(encoded),
+            keyId -> KEY_FACTORIES.get().generatePublic(new X509EncodedKeySpec(encoded)));
+    }
+
+    /**
+     * @param encoded PKCS#8 encoded private key.
+     * @return the decoded private key.
+     * @throws GeneralSecurityException if the key cannot be decoded.
+     */
+    public PrivateKey privateKey(final byte[] encoded) throws GeneralSecurityException {
+        return privateKeys.get(keyId(encoded),
+            keyId -> KEY_FACTORIES.get().generatePrivate(new PKCS8EncodedKeySpec(encoded)));
+    }
+
+    /**
+     * @return hit, miss and eviction metrics of the public keys.
+     */
+    public ExpiringCache.Stats publicKeyStats() {
+        return publicKeys.stats();
+    }
+
+    /**
+     * @return hit, miss and eviction metrics of the private keys.
+     */
+    public ExpiringCache.Stats privateKeyStats() {
+        return privateKeys.stats();
+    }
+
+    public void invalidateAll() {
+        publicKeys.invalidateAll();
+        privateKeys.invalidateAll();
+    }
+
+    private static ByteBuffer keyId(final byte[] encoded) {
+        return ByteBuffer.wrap(Hash.hash(encoded));
+    }
+}
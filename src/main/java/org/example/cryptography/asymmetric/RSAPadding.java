@@ -0,0 +1,54 @@
+package org.example.cryptography.asymmetric;
+
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import java.security.spec.AlgorithmParameterSpec;
+import java.security.spec.MGF1ParameterSpec;
+
+/**
+ * RSA encryption paddings supported by {@link RSACipher}.
+ */
+public enum RSAPadding {
+
+    /**
+     * RSA with PKCS#1 v1.5 padding. It only encrypts a single block ("/ECB" just mimics block ciphers).
+     */
+    PKCS1("RSA/ECB/PKCS1Padding", null, null),
+
+    /**
+     * Optimal Asymmetric Encryption Padding (OAEP) with SHA-256 and MGF1. The parameters must be specified,
+     * since by default it uses SHA-1 for MGF1 even if SHA-256 is specified.
+     */
+    OAEP("RSA/ECB/OAEPWithSHA-256AndMGF1Padding", "SunJCE",
+        new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT));
+
+    private final String transformation;
+
+    private final String provider;
+
+    private final AlgorithmParameterSpec parameterSpec;
+
+    RSAPadding(final String transformation, final String provider, final AlgorithmParameterSpec parameterSpec) {
+        this.transformation = transformation;
+        this.provider = provider;
+        this.parameterSpec = parameterSpec;
+    }
+
+    public String transformation() {
+        return transformation;
+    }
+
+    /**
+     * @return provider name, or {@code null} to use the default provider.
+     */
+    public String provider() {
+        return provider;
+    }
+
+    /**
+     * @return the parameters needed to initialize the cipher, or {@code null} if the padding has no parameters.
+     */
+    public AlgorithmParameterSpec parameterSpec() {
+        return parameterSpec;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.cryptography.asymmetric;
+
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+
+/**
+ * Digital signatures with RSA. The {@link Signature} is created once per thread, and encoded keys are decoded
+ * through the {@link RSAKeyCache}.
+ */
+public final class RSASignature {
+
+    public static final String SIGN_ALGORITHM = "SHA256withRSA";
+
+    private static final ThreadLocal<Signature> SIGNATURES = ThreadLocal.withInitial(RSASignature::newSignature);
+
+    private RSASignature() {
+    }
+
+    /**
+     * @param data
+     * @param privateKey
+     * @return the signature of the data.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] sign(final byte[] data, final PrivateKey privateKey) throws GeneralSecurityException {
+        final var signature = SIGNATURES.get();
+        signature.initSign(privateKey);
+        signature.update(data);
+        return signature.sign();
+    }
+
+    /**
+     * @param data
+     * @param privateKey PKCS#8 encoded private key.
+     * @return the signature of the data.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] sign(final byte[] data, final byte[] privateKey) throws GeneralSecurityException {
+        return sign(data, RSAKeyCache.DEFAULT.privateKey(privateKey));
+    }
+
+    /**
+     * @param data
+     * @param publicKey
+     * @param signature
+     * @return true if the signature is valid for the data and the public key.
+     * @throws GeneralSecurityException
+     */
+    public static boolean validate(final byte[] data, final PublicKey publicKey, final byte[] signature)
+        throws GeneralSecurityException {
+        return validate(SIGNATURES.get(), data, publicKey, signature);
+    }
+
+    /**
+     * @param data
+     * @param publicKey X.509 encoded public key.
+     * @param signature
+     * @return true if the signature is valid for the data and the public key.
+     * @throws GeneralSecurityException
+     */
+    public static boolean validate(final byte[] data, final byte[] publicKey, final byte[] signature)
+        throws GeneralSecurityException {
+        return validate(data, RSAKeyCache.DEFAULT.publicKey(publicKey), signature);
+    }
+
+    static boolean validate(final Signature verifier, final byte[] data, final PublicKey publicKey,
+                            final byte[] signature) throws GeneralSecurityException {
+        verifier.initVerify(publicKey);
+        verifier.update(data);
+        return verifier.verify(signature);
+    }
+
+    /**
+     * @return the {@link Signature} of the current thread, it must be initialized before every use.
+     */
+    static Signature signature() {
+        return SIGNATURES.get();
+    }
+
+    private static Signature newSignature() {
+        try {
+            return Signature.getInstance(SIGN_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
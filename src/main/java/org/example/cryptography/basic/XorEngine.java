@@ -0,0 +1,155 @@
+package org.example.cryptography.basic;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * XOR of data with a repeating key (or a keystream) of any length, 8 bytes at a time.
+ * Arrays are read and written as unaligned {@code long} words through a {@link VarHandle} view, which the JIT
+ * compiles to plain 64 bits loads and stores (and auto-vectorizes), and direct buffers through their
+ * {@code long} accessors. Short keys are first repeated into a longer pattern, so the data is processed in long
+ * runs without computing the key index of every byte.
+ */
+public final class XorEngine {
+
+    /**
+     * Minimum length of the repeated key pattern, short keys are repeated up to this length.
+     */
+    static final int MIN_PATTERN_SIZE = 512;
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private XorEngine() {
+    }
+
+    /**
+     * @param data
+     * @param key  repeated if it is shorter than the data.
+     * @return a new array with the data XOR the key.
+     */
+    public static byte[] xor(final byte[] data, final byte[] key) {
+        final var output = new byte[data.length];
+        xor(data, 0, data.length, key, 0, output, 0);
+        return output;
+    }
+
+    /**
+     * Replace the data with the data XOR the key.
+     *
+     * @param data
+     * @param key  repeated if it is shorter than the data.
+     */
+    public static void xorInPlace(final byte[] data, final byte[] key) {
+        xor(data, 0, data.length, key, 0, data, 0);
+    }
+
+    /**
+     * @param data
+     * @param offset
+     * @param length      bytes to process.
+     * @param key         repeated if it is shorter than the data.
+     * @param keyPosition position in the repeated key of the first byte, i.e. bytes already processed.
+     * @param output      target, it can be the data itself to work in place.
+     * @param target      position of the first byte in the target.
+     */
+    public static void xor(final byte[] data, final int offset, final int length, final byte[] key,
+                           final long keyPosition, final byte[] output, final int target) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        Objects.checkFromIndexSize(target, length, output.length);
+        final var pattern = pattern(key, length);
+        var keyIndex = keyIndex(key, keyPosition);
+        for (int done = 0; done < length; keyIndex = 0) {
+            final var run = Math.min(length - done, pattern.length - keyIndex);
+            xorRun(data, offset + done, pattern, keyIndex, output, target + done, run);
+            done += run;
+        }
+    }
+
+    /**
+     * XOR the remaining bytes of the data with the key into the output, advancing both buffers.
+     *
+     * @param data
+     * @param key         repeated if it is shorter than the data.
+     * @param keyPosition position in the repeated key of the first byte, i.e. bytes already processed.
+     * @param output      target, it can be the data itself (the same instance) to work in place, then it is only
+     *                    advanced once.
+     * @return number of bytes processed.
+     */
+    public static int xor(final ByteBuffer data, final byte[] key, final long keyPosition, final ByteBuffer output) {
+        final var length = data.remaining();
+        if (output.remaining() < length) {
+            throw new IllegalArgumentException("Output buffer too small for the data");
+        }
+        if (data.hasArray() && output.hasArray() && !output.isReadOnly()) {
+            xor(data.array(), data.arrayOffset() + data.position(), length, key, keyPosition,
+                output.array(), output.arrayOffset() + output.position());
+        } else {
+            final var pattern = pattern(key, length);
+            final var in = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            final var out = output.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            var keyIndex = keyIndex(key, keyPosition);
+            for (int done = 0; done < length; keyIndex = 0) {
+                final var run = Math.min(length - done, pattern.length - keyIndex);
+                xorRun(in, data.position() + done, pattern, keyIndex, out, output.position() + done, run);
+                done += run;
+            }
+        }
+        data.position(data.position() + length);
+        // In place, the output is the same buffer and has already been advanced
+        if (output != data) {
+            output.position(output.position() + length);
+        }
+        return length;
+    }
+
+    private static void xorRun(final byte[] data, final int offset, final byte[] key, final int keyIndex,
+                               final byte[] output, final int target, final int length) {
+        var i = 0;
+        for (; i <= length - Long.BYTES; i += Long.BYTES) {
+            final var word = (long) LONGS.get(data, offset + i) ^ (long) LONGS.get(key, keyIndex + i);
+            LONGS.set(output, target + i, word);
+        }
+        for (; i < length; i++) {
+            output[target + i] = (byte) (data[offset + i] ^ key[keyIndex + i]);
+        }
+    }
+
+    private static void xorRun(final ByteBuffer data, final int offset, final byte[] key, final int keyIndex,
+                               final ByteBuffer output, final int target, final int length) {
+        var i = 0;
+        for (; i <= length - Long.BYTES; i += Long.BYTES) {
+            output.putLong(target + i, data.getLong(offset + i) ^ (long) LONGS.get(key, keyIndex + i));
+        }
+        for (; i < length; i++) {
+            output.put(target + i, (byte) (data.get(offset + i) ^ key[keyIndex + i]));
+        }
+    }
+
+    private static int keyIndex(final byte[] key, final long keyPosition) {
+        if (keyPosition < 0) {
+            throw new IllegalArgumentException("Key position must not be negative");
+        }
+        return (int) (keyPosition % key.length);
+    }
+
+    /**
+     * Repeat a short key into a pattern of whole keys, long enough to process the data in long runs.
+     */
+    private static byte[] pattern(final byte[] key, final int length) {
+        if (key.length == 0) {
+            throw new IllegalArgumentException("Key must not be empty");
+        }
+        if (key.length >= MIN_PATTERN_SIZE || key.length >= length) {
+            return key;
+        }
+        final var repetitions = (Math.min(MIN_PATTERN_SIZE, length) + key.length - 1) / key.length + 1;
+        final var pattern = new byte[key.length * repetitions];
+        for (int i = 0; i < repetitions; i++) {
+            System.arraycopy(key, 0, pattern, i * key.length, key.length);
+        }
+        return pattern;
+    }
+}
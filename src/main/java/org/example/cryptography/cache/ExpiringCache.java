@@ -0,0 +1,266 @@
+package org.example.cryptography.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded LRU cache with time-to-live and usage-count eviction, used to keep expensive cryptographic material
+ * (parsed keys, unwrapped data keys, derived keys) ready for reuse.
+ * Entries are evicted when the cache is full (least recently used first), when they are older than the
+ * time-to-live, or once they have been returned the maximum number of times. The eviction listener is called
+ * for every entry removed, so sensitive values can be cleared.
+ *
+ * @param <K> key, it must implement equals and hashCode by value.
+ * @param <V> value
+ */
+public final class ExpiringCache<K, V> {
+
+    private final int maximumSize;
+
+    private final long timeToLiveNanos;
+
+    private final long maximumUses;
+
+    private final BiConsumer<K, V> evictionListener;
+
+    private final LongSupplier ticker;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private ExpiringCache(final Builder<K, V> builder) {
+        this.maximumSize = builder.maximumSize;
+        this.timeToLiveNanos = builder.timeToLive.toNanos();
+        this.maximumUses = builder.maximumUses;
+        this.evictionListener = builder.evictionListener;
+        this.ticker = builder.ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Loads the value of a key that is not in the cache.
+     */
+    @FunctionalInterface
+    public interface Loader<K, V, E extends Exception> {
+        V load(K key) throws E;
+    }
+
+    /**
+     * @param key
+     * @return the cached value, or {@code null} if it is not cached or it has expired.
+     */
+    public V get(final K key) {
+        final V value;
+        synchronized (this) {
+            final var entry = entries.get(key);
+            if (entry == null) {
+                value = null;
+            } else if (isExpired(entry)) {
+                evict(key, entries.remove(key));
+                value = null;
+            } else {
+                value = entry.value;
+                if (maximumUses > 0 && ++entry.uses >= maximumUses) {
+                    // The value is returned for the last time
+                    evict(key, entries.remove(key));
+                }
+            }
+        }
+        (value == null ? misses : hits).increment();
+        return value;
+    }
+
+    /**
+     * Get the cached value or load it. The loader is called outside the lock, so concurrent misses of the same
+     * key may load it more than once and the last one is cached.
+     *
+     * @param key
+     * @param loader
+     * @return the cached or loaded value.
+     * @throws E if the value cannot be loaded.
+     */
+    public <E extends Exception> V get(final K key, final Loader<K, V, E> loader) throws E {
+        var value = get(key);
+        if (value == null) {
+            value = loader.load(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * @param key
+     * @param value
+     */
+    public void put(final K key, final V value) {
+        synchronized (this) {
+            final var previous = entries.put(key, new Entry<>(value, ticker.getAsLong()));
+            if (previous != null && previous.value != value) {
+                evict(key, previous);
+            }
+            if (entries.size() > maximumSize) {
+                final var eldest = entries.entrySet().iterator().next();
+                entries.remove(eldest.getKey());
+                evict(eldest.getKey(), eldest.getValue());
+            }
+        }
+    }
+
+    /**
+     * @param key
+     */
+    public synchronized void invalidate(final K key) {
+        final var entry = entries.remove(key);
+        if (entry != null) {
+            evict(key, entry);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        for (final var entry : entries.entrySet()) {
+            evict(entry.getKey(), entry.getValue());
+        }
+        entries.clear();
+    }
+
+    /**
+     * Remove all the expired entries, they are also removed when they are requested.
+     */
+    public synchronized void cleanUp() {
+        final var iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final var entry = iterator.next();
+            if (isExpired(entry.getValue())) {
+                iterator.remove();
+                evict(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private boolean isExpired(final Entry<V> entry) {
+        return ticker.getAsLong() - entry.created >= timeToLiveNanos;
+    }
+
+    private void evict(final K key, final Entry<V> entry) {
+        evictions.increment();
+        evictionListener.accept(key, entry.value);
+    }
+
+    /**
+     * Cache metrics.
+     *
+     * @param hits      number of lookups that returned a cached value.
+     * @param misses    number of lookups without a cached value.
+     * @param evictions number of entries removed.
+     */
+    public record Stats(long hits, long misses, long evictions) {
+
+        public double hitRate() {
+            final var requests = hits + misses;
+            return requests == 0 ? 1.0 : (double) hits / requests;
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+
+        private final long created;
+
+        private long uses;
+
+        private Entry(final V value, final long created) {
+            this.value = value;
+            this.created = created;
+        }
+    }
+
+    public static final class Builder<K, V> {
+
+        private int maximumSize = 1024;
+
+        private Duration timeToLive = Duration.ofMinutes(5);
+
+        private long maximumUses;
+
+        private BiConsumer<K, V> evictionListener = (key, value) -> {
+        };
+
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maximumSize maximum number of entries, the least recently used is evicted first.
+         * @return the builder.
+         */
+        public Builder<K, V> maximumSize(final int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("Maximum size must be greater than zero");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * @param timeToLive time since the entry is cached until it expires.
+         * @return the builder.
+         */
+        public Builder<K, V> timeToLive(final Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * @param maximumUses number of times an entry can be returned, 0 for unlimited.
+         * @return the builder.
+         */
+        public Builder<K, V> maximumUses(final long maximumUses) {
+            this.maximumUses = maximumUses;
+            return this;
+        }
+
+        /**
+         * @param evictionListener called for every entry removed, i.e. to clear sensitive values.
+         * @return the builder.
+         */
+        public Builder<K, V> evictionListener(final BiConsumer<K, V> evictionListener) {
+            this.evictionListener = evictionListener;
+            return this;
+        }
+
+        /**
+         * @param ticker source of nanoseconds, {@link System#nanoTime()} by default.
+         * @return the builder.
+         */
+        public Builder<K, V> ticker(final LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public ExpiringCache<K, V> build() {
+            return new ExpiringCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.cryptography.concurrent;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Run independent chunks of work (i.e. segments of a buffer) on a {@link ForkJoinPool}.
+ * The range of indexes is split recursively, so idle workers steal the pending halves.
+ */
+public final class ParallelTasks {
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * Task to process the chunk with the given index.
+     */
+    @FunctionalInterface
+    public interface IndexedTask {
+        void run(int index) throws GeneralSecurityException;
+    }
+
+    /**
+     * Run the task for every index from 0 to count (exclusive) and wait for all of them.
+     *
+     * @param pool
+     * @param count
+     * @param task
+     * @throws GeneralSecurityException the first failure of any of the tasks.
+     */
+    public static void forEach(final ForkJoinPool pool, final int count, final IndexedTask task)
+        throws GeneralSecurityException {
+        if (count <= 0) {
+            return;
+        }
+        try {
+            pool.invoke(new RangeAction(task, 0, count));
+        } catch (TaskException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class RangeAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IndexedTask task;
+
+        private final int from;
+
+        private final int to;
+
+        private RangeAction(final IndexedTask task, final int from, final int to) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                try {
+                    task.run(from);
+                } catch (GeneralSecurityException e) {
+                    throw new TaskException(e);
+                }
+                return;
+            }
+            final var middle = (from + to) >>> 1;
+            invokeAll(new RangeAction(task, from, middle), new RangeAction(task, middle, to));
+        }
+    }
+
+    private static final class TaskException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private TaskException(final GeneralSecurityException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized GeneralSecurityException getCause() {
+            return (GeneralSecurityException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.cryptography.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors that start a new thread for every task, so blocking tasks (sockets, semaphores) do not need a tuned
+ * pool size, and fixed pools of long-lived threads for the CPU-bound work that relies on per-thread caches.
+ */
+public final class TaskExecutors {
+
+    private TaskExecutors() {
+    }
+
+    /**
+     * Virtual threads are only available since Java 21, and the project targets Java 17, so they are looked up
+     * by reflection.
+     *
+     * @param name prefix of the platform threads used when virtual threads are not available.
+     * @return a new executor that starts a virtual thread per task, or a cached pool of daemon platform threads if
+     * the runtime has no virtual threads.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(final String name) {
+        try {
+            final var method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not available (Java 17) or still a preview feature (Java 19 and 20)
+            return Executors.newCachedThreadPool(daemonThreads(name));
+        }
+    }
+
+    /**
+     * The threads live as long as the pool, so the per-thread instances of {@code CipherPool}, {@code MacPool} or
+     * {@code RSASignature} are created once per thread instead of once per task.
+     *
+     * @param name    prefix of the threads.
+     * @param threads size of the pool.
+     * @return a new fixed pool of daemon platform threads.
+     */
+    public static ExecutorService newWorkerPool(final String name, final int threads) {
+        return Executors.newFixedThreadPool(threads, daemonThreads(name));
+    }
+
+    private static ThreadFactory daemonThreads(final String name) {
+        final var counter = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * @return whether {@link #newThreadPerTaskExecutor(String)} uses virtual threads.
+     */
+    public static boolean hasVirtualThreads() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Runtime.version().feature() >= 21;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package org.example.cryptography.container;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary framing of encrypted data that describes how to decrypt it, so the receiver can dispatch on the
+ * header instead of receiving the key id, the nonce and the ciphertext separately (or Base64 encoded).
+ * <pre>
+ * version (1) | algorithm (1) | flags (1) | tag length (1) | key id length (1) | nonce length (1) | key id | nonce
+ * | [chunk count (4) | encrypted chunk lengths (4 each)] | payload length (4) | payload
+ * </pre>
+ * The chunk table is present when the {@link #CHUNKED} flag is set, and the payload is the concatenation of the
+ * encrypted chunks. Integers are big-endian.
+ * A container read from a buffer is a view: the key id, nonce, chunks and payload are slices of that buffer,
+ * nothing is copied.
+ */
+public final class Container {
+
+    public static final int VERSION = 1;
+
+    /**
+     * Flag of the payload split in independently encrypted chunks, listed in the chunk table.
+     */
+    public static final int CHUNKED = 1;
+
+    /**
+     * Chunks in the table, so a corrupted count cannot allocate or iterate without limit.
+     */
+    public static final int MAXIMUM_CHUNKS = 1 << 20;
+
+    private static final int FIXED_HEADER_SIZE = 6;
+
+    private final ByteBuffer header;
+
+    private final ContainerAlgorithm algorithm;
+
+    private final int tagLength;
+
+    private final ByteBuffer keyId;
+
+    private final ByteBuffer nonce;
+
+    private final ByteBuffer chunkTable;
+
+    private final ByteBuffer payload;
+
+    private Container(final ByteBuffer header, final ContainerAlgorithm algorithm, final int tagLength,
+                      final ByteBuffer keyId, final ByteBuffer nonce, final ByteBuffer chunkTable,
+                      final ByteBuffer payload) {
+        this.header = header;
+        this.algorithm = algorithm;
+        this.tagLength = tagLength;
+        this.keyId = keyId;
+        this.nonce = nonce;
+        this.chunkTable = chunkTable;
+        this.payload = payload;
+    }
+
+    /**
+     * @param keyIdLength
+     * @param nonceLength
+     * @param chunks      number of chunks, 0 without chunk table.
+     * @return the size of the header, including the payload length.
+     */
+    public static int headerSize(final int keyIdLength, final int nonceLength, final int chunks) {
+        return FIXED_HEADER_SIZE + keyIdLength + nonceLength + (chunks > 0 ? Integer.BYTES * (chunks + 1) : 0)
+            + Integer.BYTES;
+    }
+
+    /**
+     * @param output        the header is written at the current position, followed by the payload.
+     * @param algorithm
+     * @param keyId         up to 255 bytes.
+     * @param nonce         up to 255 bytes.
+     * @param chunkLengths  encrypted length of each chunk, {@code null} without chunk table.
+     * @param payloadLength
+     */
+    public static void writeHeader(final ByteBuffer output, final ContainerAlgorithm algorithm, final byte[] keyId,
+                                   final byte[] nonce, final int[] chunkLengths, final int payloadLength) {
+        if (keyId.length > 255 || nonce.length > 255) {
+            throw new IllegalArgumentException("Key id and nonce must be up to 255 bytes");
+        }
+        final var chunked = chunkLengths != null && chunkLengths.length > 0;
+        if (chunked && chunkLengths.length > MAXIMUM_CHUNKS) {
+            throw new IllegalArgumentException("Too many chunks: " + chunkLengths.length);
+        }
+        output.put((byte) VERSION)
+            .put((byte) algorithm.id())
+            .put((byte) (chunked ? CHUNKED : 0))
+            .put((byte) algorithm.tagLength())
+            .put((byte) keyId.length)
+            .put((byte) nonce.length)
+            .put(keyId)
+            .put(nonce);
+        if (chunked) {
+            output.putInt(chunkLengths.length);
+            for (final var length : chunkLengths) {
+                output.putInt(length);
+            }
+        }
+        output.putInt(payloadLength);
+    }
+
+    /**
+     * @param input the container is read from the current position, and the position is moved after it.
+     * @return the view of the container.
+     * @throws IllegalArgumentException if it is not a valid container.
+     */
+    public static Container read(final ByteBuffer input) {
+        final var start = input.position();
+        if (input.remaining() < FIXED_HEADER_SIZE) {
+            throw new IllegalArgumentException("Truncated container header");
+        }
+        final var version = Byte.toUnsignedInt(input.get(start));
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported container version: " + version);
+        }
+        final var algorithm = ContainerAlgorithm.of(Byte.toUnsignedInt(input.get(start + 1)));
+        final var flags = Byte.toUnsignedInt(input.get(start + 2));
+        final var tagLength = Byte.toUnsignedInt(input.get(start + 3));
+        final var keyIdLength = Byte.toUnsignedInt(input.get(start + 4));
+        final var nonceLength = Byte.toUnsignedInt(input.get(start + 5));
+        if ((flags & ~CHUNKED) != 0) {
+            throw new IllegalArgumentException("Unknown container flags: " + flags);
+        }
+        var position = start + FIXED_HEADER_SIZE;
+        final var keyId = slice(input, position, keyIdLength);
+        position += keyIdLength;
+        final var nonce = slice(input, position, nonceLength);
+        position += nonceLength;
+
+        ByteBuffer chunkTable = null;
+        if ((flags & CHUNKED) != 0) {
+            final var chunks = slice(input, position, Integer.BYTES).getInt(0);
+            if (chunks <= 0 || chunks > MAXIMUM_CHUNKS) {
+                throw new IllegalArgumentException("Invalid container chunk count: " + chunks);
+            }
+            chunkTable = slice(input, position + Integer.BYTES, chunks * Integer.BYTES);
+            position += Integer.BYTES * (chunks + 1);
+        }
+        final var payloadLength = slice(input, position, Integer.BYTES).getInt(0);
+        if (payloadLength < 0) {
+            throw new IllegalArgumentException("Invalid container payload length: " + payloadLength);
+        }
+        position += Integer.BYTES;
+        final var header = slice(input, start, position - start);
+        final var payload = slice(input, position, payloadLength);
+        if (chunkTable != null) {
+            long total = 0;
+            for (int i = 0; i < chunkTable.capacity(); i += Integer.BYTES) {
+                final var length = chunkTable.getInt(i);
+                if (length < 0) {
+                    throw new IllegalArgumentException("Invalid container chunk length: " + length);
+                }
+                total += length;
+            }
+            if (total != payloadLength) {
+                throw new IllegalArgumentException("Container chunk lengths do not match the payload");
+            }
+        }
+        input.position(position + payloadLength);
+        return new Container(header, algorithm, tagLength, keyId, nonce, chunkTable, payload);
+    }
+
+    /**
+     * @return the header bytes, authenticated as additional data by the AEAD algorithms.
+     */
+    public ByteBuffer header() {
+        return header.duplicate();
+    }
+
+    public ContainerAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    /**
+     * @return size of the authentication tag in bytes of the payload, or of every chunk.
+     */
+    public int tagLength() {
+        return tagLength;
+    }
+
+    public ByteBuffer keyId() {
+        return keyId.duplicate();
+    }
+
+    public ByteBuffer nonce() {
+        return nonce.duplicate();
+    }
+
+    public boolean isChunked() {
+        return chunkTable != null;
+    }
+
+    /**
+     * @return number of chunks, 1 if the payload is not chunked.
+     */
+    public int chunkCount() {
+        return chunkTable == null ? 1 : chunkTable.capacity() / Integer.BYTES;
+    }
+
+    /**
+     * @param index
+     * @return the length of the encrypted chunk.
+     */
+    public int chunkLength(final int index) {
+        if (chunkTable == null) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return payload.capacity();
+        }
+        return chunkTable.getInt(index * Integer.BYTES);
+    }
+
+    /**
+     * @param index
+     * @return the encrypted chunk, it is located adding the previous lengths of the table.
+     */
+    public ByteBuffer chunk(final int index) {
+        if (chunkTable == null) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return payload();
+        }
+        var offset = 0;
+        for (int i = 0; i < index; i++) {
+            offset += chunkTable.getInt(i * Integer.BYTES);
+        }
+        return slice(payload, offset, chunkTable.getInt(index * Integer.BYTES));
+    }
+
+    /**
+     * @return the encrypted payload, all the chunks if it is chunked.
+     */
+    public ByteBuffer payload() {
+        return payload.duplicate();
+    }
+
+    private static ByteBuffer slice(final ByteBuffer buffer, final int position, final int length) {
+        if ((long) position + length > buffer.limit()) {
+            throw new IllegalArgumentException("Truncated container");
+        }
+        return buffer.slice(position, length);
+    }
+}
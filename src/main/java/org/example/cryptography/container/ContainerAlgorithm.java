@@ -0,0 +1,78 @@
+package org.example.cryptography.container;
+
+import org.example.cryptography.asymmetric.RSAPadding;
+import org.example.cryptography.symmetric.AESCipher;
+import org.example.cryptography.symmetric.AESMode;
+import org.example.cryptography.symmetric.ParallelCBC;
+
+/**
+ * Algorithms of the {@link Container} payload, identified by a single byte in the header.
+ */
+public enum ContainerAlgorithm {
+
+    /**
+     * AES/GCM, the header is authenticated as additional data, so it cannot be modified either.
+     */
+    AES_GCM(1, AESMode.GCM.transformation(), AESCipher.GCM_NONCE_SIZE, AESCipher.AUTHENTICATION_TAG_SIZE / 8),
+
+    /**
+     * AES/CBC with PKCS#5 padding. It is not authenticated.
+     */
+    AES_CBC(2, ParallelCBC.PADDED_ENCRYPT_ALGORITHM, ParallelCBC.BLOCK_SIZE, 0),
+
+    /**
+     * RSA/OAEP with SHA-256, the payload is a single RSA block.
+     */
+    RSA_OAEP(3, RSAPadding.OAEP.transformation(), 0, 0);
+
+    private final int id;
+
+    private final String transformation;
+
+    private final int nonceSize;
+
+    private final int tagLength;
+
+    ContainerAlgorithm(final int id, final String transformation, final int nonceSize, final int tagLength) {
+        this.id = id;
+        this.transformation = transformation;
+        this.nonceSize = nonceSize;
+        this.tagLength = tagLength;
+    }
+
+    /**
+     * @param id
+     * @return the algorithm with the id.
+     * @throws IllegalArgumentException if the id is unknown.
+     */
+    public static ContainerAlgorithm of(final int id) {
+        for (final var algorithm : values()) {
+            if (algorithm.id == id) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unknown container algorithm: " + id);
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public String transformation() {
+        return transformation;
+    }
+
+    /**
+     * @return size of the nonce or initialization vector, 0 if not used.
+     */
+    public int nonceSize() {
+        return nonceSize;
+    }
+
+    /**
+     * @return size of the authentication tag in bytes, 0 if not authenticated.
+     */
+    public int tagLength() {
+        return tagLength;
+    }
+}
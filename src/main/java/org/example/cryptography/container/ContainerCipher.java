@@ -0,0 +1,223 @@
+package org.example.cryptography.container;
+
+import org.example.cryptography.asymmetric.RSAPadding;
+import org.example.cryptography.random.NonceGenerator;
+import org.example.cryptography.symmetric.CipherPool;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Arrays;
+
+/**
+ * Encrypt data into a {@link Container} and decrypt it dispatching on its header.
+ * Large AES/GCM payloads can be split in chunks, each one authenticated with its own nonce: the nonce of the
+ * header with the chunk index XOR into its last 4 bytes. The whole header, chunk table included, is the
+ * additional authenticated data of every chunk, so chunks cannot be reordered, dropped or truncated.
+ */
+public final class ContainerCipher {
+
+    private ContainerCipher() {
+    }
+
+    /**
+     * Resolves the key to decrypt a container.
+     */
+    @FunctionalInterface
+    public interface KeyResolver {
+
+        /**
+         * @param algorithm
+         * @param keyId     key id of the container.
+         * @return the secret key, or the private key for RSA.
+         * @throws GeneralSecurityException if the key is unknown.
+         */
+        Key key(ContainerAlgorithm algorithm, ByteBuffer keyId) throws GeneralSecurityException;
+    }
+
+    /**
+     * @param algorithm
+     * @param keyId     identifies the key for the receiver.
+     * @param key       secret key, or the public key for RSA.
+     * @param data
+     * @return the container.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] encrypt(final ContainerAlgorithm algorithm, final byte[] keyId, final Key key,
+                                 final byte[] data) throws GeneralSecurityException {
+        final var nonce = NonceGenerator.random(algorithm.nonceSize());
+        final var cipher = init(algorithm, Cipher.ENCRYPT_MODE, key, nonce);
+        final var payloadLength = cipher.getOutputSize(data.length);
+        final var output = ByteBuffer.allocate(Container.headerSize(keyId.length, nonce.length, 0) + payloadLength);
+        encrypt(cipher, algorithm, keyId, nonce, ByteBuffer.wrap(data), output, payloadLength);
+        return output.array();
+    }
+
+    /**
+     * @param algorithm
+     * @param keyId     identifies the key for the receiver.
+     * @param key       secret key, or the public key for RSA.
+     * @param input     remaining bytes are consumed.
+     * @param output    the container is written at the current position.
+     * @return the number of bytes written.
+     * @throws GeneralSecurityException
+     */
+    public static int encrypt(final ContainerAlgorithm algorithm, final byte[] keyId, final Key key,
+                              final ByteBuffer input, final ByteBuffer output) throws GeneralSecurityException {
+        final var nonce = NonceGenerator.random(algorithm.nonceSize());
+        final var cipher = init(algorithm, Cipher.ENCRYPT_MODE, key, nonce);
+        return encrypt(cipher, algorithm, keyId, nonce, input, output, cipher.getOutputSize(input.remaining()));
+    }
+
+    /**
+     * Encrypt with AES/GCM in chunks, i.e. to decrypt them in parallel or to read a chunk without the others.
+     *
+     * @param keyId     identifies the key for the receiver.
+     * @param secretKey
+     * @param chunkSize plaintext bytes per chunk.
+     * @param input     remaining bytes are consumed.
+     * @param output    the container is written at the current position.
+     * @return the number of bytes written.
+     * @throws GeneralSecurityException
+     */
+    public static int encrypt(final byte[] keyId, final SecretKey secretKey, final int chunkSize,
+                              final ByteBuffer input, final ByteBuffer output) throws GeneralSecurityException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero");
+        }
+        final var algorithm = ContainerAlgorithm.AES_GCM;
+        final var length = input.remaining();
+        final var chunks = Math.max(1, (int) ((length + (long) chunkSize - 1) / chunkSize));
+        final var chunkLengths = new int[chunks];
+        long payloadLength = 0;
+        for (int i = 0; i < chunks; i++) {
+            chunkLengths[i] = Math.min(chunkSize, length - i * chunkSize) + algorithm.tagLength();
+            payloadLength += chunkLengths[i];
+        }
+        final var nonce = NonceGenerator.random(algorithm.nonceSize());
+        final var headerSize = Container.headerSize(keyId.length, nonce.length, chunks);
+        if (output.remaining() < headerSize + payloadLength) {
+            throw new ShortBufferException("Output buffer too small for the container: " + output.remaining());
+        }
+        final var start = output.position();
+        Container.writeHeader(output, algorithm, keyId, nonce, chunkLengths, (int) payloadLength);
+        final var header = output.slice(start, headerSize);
+
+        final var limit = input.limit();
+        for (int i = 0; i < chunks; i++) {
+            input.limit(input.position() + chunkLengths[i] - algorithm.tagLength());
+            final var cipher = init(algorithm, Cipher.ENCRYPT_MODE, secretKey, chunkNonce(nonce, i));
+            cipher.updateAAD(header.duplicate());
+            cipher.doFinal(input, output);
+        }
+        input.limit(limit);
+        return output.position() - start;
+    }
+
+    /**
+     * @param data     container.
+     * @param resolver resolves the key of the container.
+     * @return the decrypted data.
+     * @throws GeneralSecurityException if the container has been tampered or the key is unknown.
+     */
+    public static byte[] decrypt(final byte[] data, final KeyResolver resolver) throws GeneralSecurityException {
+        final var container = Container.read(ByteBuffer.wrap(data));
+        // The plaintext is never longer than the payload
+        final var output = ByteBuffer.allocate(container.payload().remaining());
+        final var length = decrypt(container, resolver.key(container.algorithm(), container.keyId()), output);
+        return length == output.capacity() ? output.array() : Arrays.copyOf(output.array(), length);
+    }
+
+    /**
+     * @param input    the container is read from the current position.
+     * @param resolver resolves the key of the container.
+     * @param output   the decrypted data is written at the current position.
+     * @return the number of bytes written.
+     * @throws GeneralSecurityException if the container has been tampered or the key is unknown.
+     */
+    public static int decrypt(final ByteBuffer input, final KeyResolver resolver, final ByteBuffer output)
+        throws GeneralSecurityException {
+        final var container = Container.read(input);
+        return decrypt(container, resolver.key(container.algorithm(), container.keyId()), output);
+    }
+
+    /**
+     * @param container
+     * @param key       secret key, or the private key for RSA.
+     * @param output    the decrypted data is written at the current position.
+     * @return the number of bytes written.
+     * @throws GeneralSecurityException if the container has been tampered.
+     */
+    public static int decrypt(final Container container, final Key key, final ByteBuffer output)
+        throws GeneralSecurityException {
+        final var algorithm = container.algorithm();
+        if (container.tagLength() != algorithm.tagLength()) {
+            throw new IllegalArgumentException("Unsupported tag length: " + container.tagLength());
+        }
+        final var nonce = new byte[container.nonce().remaining()];
+        container.nonce().get(nonce);
+        if (container.isChunked() && algorithm != ContainerAlgorithm.AES_GCM) {
+            throw new IllegalArgumentException("Chunks are only supported with AES/GCM");
+        }
+        final var start = output.position();
+        final var payload = container.payload();
+        for (int i = 0; i < container.chunkCount(); i++) {
+            final var cipher = init(algorithm, Cipher.DECRYPT_MODE, key,
+                container.isChunked() ? chunkNonce(nonce, i) : nonce);
+            if (algorithm == ContainerAlgorithm.AES_GCM) {
+                cipher.updateAAD(container.header());
+            }
+            payload.limit(payload.position() + container.chunkLength(i));
+            cipher.doFinal(payload, output);
+        }
+        return output.position() - start;
+    }
+
+    private static int encrypt(final Cipher cipher, final ContainerAlgorithm algorithm, final byte[] keyId,
+                               final byte[] nonce, final ByteBuffer input, final ByteBuffer output,
+                               final int payloadLength) throws GeneralSecurityException {
+        final var headerSize = Container.headerSize(keyId.length, nonce.length, 0);
+        if (output.remaining() < headerSize + payloadLength) {
+            throw new ShortBufferException("Output buffer too small for the container: " + output.remaining());
+        }
+        final var start = output.position();
+        Container.writeHeader(output, algorithm, keyId, nonce, null, payloadLength);
+        if (algorithm == ContainerAlgorithm.AES_GCM) {
+            cipher.updateAAD(output.slice(start, headerSize));
+        }
+        cipher.doFinal(input, output);
+        return output.position() - start;
+    }
+
+    private static Cipher init(final ContainerAlgorithm algorithm, final int opmode, final Key key,
+                               final byte[] nonce) throws GeneralSecurityException {
+        final Cipher cipher;
+        switch (algorithm) {
+            case AES_GCM -> {
+                cipher = CipherPool.get(algorithm.transformation());
+                cipher.init(opmode, key, new GCMParameterSpec(algorithm.tagLength() * 8, nonce));
+            }
+            case AES_CBC -> {
+                cipher = CipherPool.get(algorithm.transformation());
+                cipher.init(opmode, key, new IvParameterSpec(nonce));
+            }
+            default -> {
+                cipher = CipherPool.get(RSAPadding.OAEP.transformation(), RSAPadding.OAEP.provider());
+                cipher.init(opmode, key, RSAPadding.OAEP.parameterSpec());
+            }
+        }
+        return cipher;
+    }
+
+    private static byte[] chunkNonce(final byte[] nonce, final int index) {
+        final var chunkNonce = nonce.clone();
+        final var buffer = ByteBuffer.wrap(chunkNonce, chunkNonce.length - Integer.BYTES, Integer.BYTES);
+        buffer.putInt(buffer.getInt(buffer.position()) ^ index);
+        return chunkNonce;
+    }
+}
@@ -0,0 +1,421 @@
+package org.example.cryptography.encoding;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Base64 codec (RFC 4648) with the standard and the URL-safe alphabets, both padded.
+ * Whole arrays go through the {@link Base64} encoders and decoders of the JDK, which are intrinsified, while
+ * {@code char[]} and {@link ByteBuffer} targets (i.e. direct buffers) are encoded with a lookup table, three bytes
+ * into four characters at a time, without intermediate arrays.
+ * Large data (i.e. the output of a streaming cipher) is encoded and decoded incrementally through the stream and
+ * channel wrappers, which keep a single fixed-size buffer instead of the whole text.
+ */
+public enum Base64Codec {
+
+    STANDARD("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/",
+        Base64.getEncoder(), Base64.getDecoder()),
+
+    URL_SAFE("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_",
+        Base64.getUrlEncoder(), Base64.getUrlDecoder());
+
+    private static final byte PAD = '=';
+
+    /**
+     * Bytes encoded at once by the streams, a multiple of 3 so only the last block is padded.
+     */
+    static final int STREAM_BLOCK_SIZE = 3 * 2048;
+
+    private final byte[] alphabet;
+
+    private final byte[] values = new byte[128];
+
+    private final Base64.Encoder encoder;
+
+    private final Base64.Decoder decoder;
+
+    Base64Codec(final String alphabet, final Base64.Encoder encoder, final Base64.Decoder decoder) {
+        this.alphabet = alphabet.getBytes(StandardCharsets.US_ASCII);
+        this.encoder = encoder;
+        this.decoder = decoder;
+        Arrays.fill(values, (byte) -1);
+        for (int i = 0; i < this.alphabet.length; i++) {
+            values[this.alphabet[i]] = (byte) i;
+        }
+    }
+
+    /**
+     * @param length bytes to encode.
+     * @return characters of the encoded text, with padding.
+     */
+    public static int encodedLength(final int length) {
+        return (length + 2) / 3 * 4;
+    }
+
+    /**
+     * @param data
+     * @return the Base64 text of the data.
+     */
+    public String encode(final byte[] data) {
+        return encoder.encodeToString(data);
+    }
+
+    /**
+     * @param data
+     * @param encoded target of the ASCII text, it must have room for {@link #encodedLength(int)} bytes.
+     * @return number of bytes written.
+     */
+    public int encode(final byte[] data, final byte[] encoded) {
+        return encoder.encode(data, encoded);
+    }
+
+    /**
+     * @param data
+     * @param offset
+     * @param length  bytes to encode.
+     * @param encoded target of the text, it must have room for {@link #encodedLength(int)} characters.
+     * @param target  position of the first character in the target.
+     * @return number of characters written.
+     */
+    public int encode(final byte[] data, final int offset, final int length, final char[] encoded, final int target) {
+        var position = target;
+        var i = offset;
+        final var end = offset + length;
+        for (; i + 3 <= end; i += 3) {
+            final var bits = (data[i] & 0xFF) << 16 | (data[i + 1] & 0xFF) << 8 | data[i + 2] & 0xFF;
+            encoded[position++] = (char) alphabet[bits >>> 18];
+            encoded[position++] = (char) alphabet[bits >>> 12 & 0x3F];
+            encoded[position++] = (char) alphabet[bits >>> 6 & 0x3F];
+            encoded[position++] = (char) alphabet[bits & 0x3F];
+        }
+        if (i < end) {
+            final var two = i + 1 < end;
+            final var bits = (data[i] & 0xFF) << 16 | (two ? (data[i + 1] & 0xFF) << 8 : 0);
+            encoded[position++] = (char) alphabet[bits >>> 18];
+            encoded[position++] = (char) alphabet[bits >>> 12 & 0x3F];
+            encoded[position++] = two ? (char) alphabet[bits >>> 6 & 0x3F] : (char) PAD;
+            encoded[position++] = (char) PAD;
+        }
+        return position - target;
+    }
+
+    /**
+     * Encode the remaining bytes of the input as ASCII Base64 into the output.
+     *
+     * @param input
+     * @param output it must have room for {@link #encodedLength(int)} of the remaining bytes of the input.
+     * @return number of bytes written.
+     */
+    public int encode(final ByteBuffer input, final ByteBuffer output) {
+        final var length = encodedLength(input.remaining());
+        if (output.remaining() < length) {
+            throw new IllegalArgumentException("Output buffer too small for the encoded data");
+        }
+        while (input.remaining() >= 3) {
+            final var bits = (input.get() & 0xFF) << 16 | (input.get() & 0xFF) << 8 | input.get() & 0xFF;
+            output.put(alphabet[bits >>> 18])
+                .put(alphabet[bits >>> 12 & 0x3F])
+                .put(alphabet[bits >>> 6 & 0x3F])
+                .put(alphabet[bits & 0x3F]);
+        }
+        if (input.hasRemaining()) {
+            final var two = input.remaining() == 2;
+            final var bits = (input.get() & 0xFF) << 16 | (two ? (input.get() & 0xFF) << 8 : 0);
+            output.put(alphabet[bits >>> 18])
+                .put(alphabet[bits >>> 12 & 0x3F])
+                .put(two ? alphabet[bits >>> 6 & 0x3F] : PAD)
+                .put(PAD);
+        }
+        return length;
+    }
+
+    /**
+     * @param encoded Base64 text.
+     * @return the decoded data.
+     */
+    public byte[] decode(final String encoded) {
+        return decoder.decode(encoded);
+    }
+
+    /**
+     * @param encoded ASCII Base64 text.
+     * @return the decoded data.
+     */
+    public byte[] decode(final byte[] encoded) {
+        return decoder.decode(encoded);
+    }
+
+    /**
+     * @param encoded ASCII Base64 text.
+     * @param data    target of the decoded bytes, it must have room for all of them.
+     * @return number of bytes written.
+     */
+    public int decode(final byte[] encoded, final byte[] data) {
+        return decoder.decode(encoded, data);
+    }
+
+    /**
+     * Decode the remaining ASCII Base64 text of the input into the output. The padding is optional.
+     *
+     * @param input
+     * @param output it must have room for all the decoded bytes.
+     * @return number of bytes written.
+     */
+    public int decode(final ByteBuffer input, final ByteBuffer output) {
+        var length = input.remaining();
+        // Ignore the padding, it only completes the last quantum
+        while (length > 0 && input.get(input.position() + length - 1) == PAD) {
+            length--;
+        }
+        if (input.remaining() - length > 2 || length % 4 == 1) {
+            throw new IllegalArgumentException("Illegal Base64 text length");
+        }
+        final var size = length / 4 * 3 + Math.max(0, length % 4 - 1);
+        if (output.remaining() < size) {
+            throw new IllegalArgumentException("Output buffer too small for the decoded data");
+        }
+        final var end = input.position() + length;
+        while (end - input.position() >= 4) {
+            final var bits = value(input.get()) << 18 | value(input.get()) << 12
+                | value(input.get()) << 6 | value(input.get());
+            output.put((byte) (bits >>> 16)).put((byte) (bits >>> 8)).put((byte) bits);
+        }
+        if (input.position() < end) {
+            final var three = end - input.position() == 3;
+            final var bits = value(input.get()) << 18 | value(input.get()) << 12
+                | (three ? value(input.get()) << 6 : 0);
+            output.put((byte) (bits >>> 16));
+            if (three) {
+                output.put((byte) (bits >>> 8));
+            }
+        }
+        // Consume the padding
+        input.position(input.limit());
+        return size;
+    }
+
+    /**
+     * @param out target of the ASCII Base64 text.
+     * @return a stream that encodes everything written to it.
+     */
+    public EncodingOutputStream encodingStream(final OutputStream out) {
+        return new EncodingOutputStream(this, out);
+    }
+
+    /**
+     * @param in source of the ASCII Base64 text.
+     * @return a stream that reads the decoded data.
+     */
+    public InputStream decodingStream(final InputStream in) {
+        return new DecodingInputStream(this, in);
+    }
+
+    /**
+     * @param channel target of the ASCII Base64 text, closing the returned channel writes the padding.
+     * @return a channel that encodes everything written to it.
+     */
+    public WritableByteChannel encodingChannel(final WritableByteChannel channel) {
+        return Channels.newChannel(encodingStream(Channels.newOutputStream(channel)));
+    }
+
+    /**
+     * @param channel source of the ASCII Base64 text.
+     * @return a channel that reads the decoded data.
+     */
+    public ReadableByteChannel decodingChannel(final ReadableByteChannel channel) {
+        return Channels.newChannel(decodingStream(Channels.newInputStream(channel)));
+    }
+
+    private int value(final byte c) {
+        final var value = c >= 0 ? values[c] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Illegal Base64 character: " + (char) (c & 0xFF));
+        }
+        return value;
+    }
+
+    /**
+     * Encode the data in blocks as it is written, only the last block is padded.
+     */
+    public static final class EncodingOutputStream extends FilterOutputStream {
+
+        private final Base64Codec codec;
+
+        private final byte[] block = new byte[STREAM_BLOCK_SIZE];
+
+        private final byte[] encoded = new byte[encodedLength(STREAM_BLOCK_SIZE)];
+
+        private int position;
+
+        private boolean finished;
+
+        private EncodingOutputStream(final Base64Codec codec, final OutputStream out) {
+            super(out);
+            this.codec = codec;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, int off, int len) throws IOException {
+            if (finished) {
+                throw new IOException("Stream already finished");
+            }
+            while (len > 0) {
+                if (position == block.length) {
+                    writeBlock();
+                }
+                final var count = Math.min(len, block.length - position);
+                System.arraycopy(b, off, block, position, count);
+                position += count;
+                off += count;
+                len -= count;
+            }
+        }
+
+        /**
+         * Encode the last block, with padding, without closing the underlying stream.
+         *
+         * @throws IOException
+         */
+        public void finish() throws IOException {
+            if (!finished) {
+                writeBlock();
+                finished = true;
+                out.flush();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Only complete blocks can be written without padding, so it just flushes the underlying stream
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            out.close();
+        }
+
+        private void writeBlock() throws IOException {
+            final var size = codec.encode(ByteBuffer.wrap(block, 0, position), ByteBuffer.wrap(encoded));
+            out.write(encoded, 0, size);
+            position = 0;
+        }
+    }
+
+    /**
+     * Decode the text in blocks of whole quanta as it is read.
+     */
+    private static final class DecodingInputStream extends FilterInputStream {
+
+        private final Base64Codec codec;
+
+        private final byte[] text = new byte[encodedLength(STREAM_BLOCK_SIZE)];
+
+        private final byte[] decoded = new byte[STREAM_BLOCK_SIZE];
+
+        private int textLength;
+
+        private int position;
+
+        private int limit;
+
+        private boolean padded;
+
+        private boolean eof;
+
+        private DecodingInputStream(final Base64Codec codec, final InputStream in) {
+            super(in);
+            this.codec = codec;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (position == limit) {
+                if (eof) {
+                    return -1;
+                }
+                fill();
+            }
+            final var count = Math.min(len, limit - position);
+            System.arraycopy(decoded, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final var buffer = new byte[(int) Math.min(n, decoded.length)];
+            var skipped = 0L;
+            while (skipped < n) {
+                final var count = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (count < 0) {
+                    break;
+                }
+                skipped += count;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return limit - position;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void fill() throws IOException {
+            final var count = in.read(text, textLength, text.length - textLength);
+            if (count < 0) {
+                eof = true;
+            } else {
+                textLength += count;
+            }
+            // Decode whole quanta, the incomplete one waits for more text unless it is the end of the text
+            final var length = eof ? textLength : textLength - textLength % 4;
+            if (length == 0) {
+                position = limit = 0;
+                return;
+            }
+            if (padded) {
+                throw new IOException("Illegal Base64 text after the padding");
+            }
+            padded = text[length - 1] == PAD;
+            try {
+                limit = codec.decode(ByteBuffer.wrap(text, 0, length), ByteBuffer.wrap(decoded));
+                position = 0;
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Illegal Base64 text", e);
+            }
+            System.arraycopy(text, length, text, 0, textLength - length);
+            textLength -= length;
+        }
+    }
+}
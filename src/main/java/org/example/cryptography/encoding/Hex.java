@@ -0,0 +1,232 @@
+package org.example.cryptography.encoding;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Table-driven lowercase hexadecimal codec. Every byte is encoded with two lookups in a 512 entries table instead
+ * of formatting it, and the encoded text is written into preallocated targets, so encoding a digest or a
+ * ciphertext for logging allocates only the result.
+ */
+public final class Hex {
+
+    private static final byte[] DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Both hex digits of every byte value, the high digit at {@code 2 * b} and the low one at {@code 2 * b + 1}.
+     */
+    private static final byte[] ENCODE = new byte[512];
+
+    /**
+     * Value of every hex digit (either case) or -1.
+     */
+    private static final byte[] DECODE = new byte[128];
+
+    /**
+     * Characters buffered before writing to a {@link Writer}.
+     */
+    private static final int WRITE_BUFFER_SIZE = 8192;
+
+    static {
+        for (int b = 0; b < 256; b++) {
+            ENCODE[2 * b] = DIGITS[b >>> 4];
+            ENCODE[2 * b + 1] = DIGITS[b & 0x0F];
+        }
+        Arrays.fill(DECODE, (byte) -1);
+        for (int i = 0; i < DIGITS.length; i++) {
+            DECODE[DIGITS[i]] = (byte) i;
+            DECODE[Character.toUpperCase(DIGITS[i])] = (byte) i;
+        }
+    }
+
+    private Hex() {
+    }
+
+    /**
+     * @param data
+     * @return the hex text of the data.
+     */
+    public static String encode(final byte[] data) {
+        final var encoded = new byte[data.length * 2];
+        encode(data, 0, data.length, encoded, 0);
+        return new String(encoded, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @param data
+     * @param lineLength characters per line.
+     * @return the hex text of the data split in lines of the given length, separated by {@code '\n'}.
+     */
+    public static String encodeLines(final byte[] data, final int lineLength) {
+        if (lineLength <= 0) {
+            throw new IllegalArgumentException("Line length must be positive");
+        }
+        final var length = data.length * 2;
+        final var lines = length == 0 ? 0 : (length - 1) / lineLength;
+        final var encoded = new byte[length + lines];
+        var position = 0;
+        for (int i = 0; i < data.length; i++) {
+            final var index = (data[i] & 0xFF) * 2;
+            for (int digit = 0; digit < 2; digit++) {
+                final var offset = i * 2 + digit;
+                if (offset > 0 && offset % lineLength == 0) {
+                    encoded[position++] = '\n';
+                }
+                encoded[position++] = ENCODE[index + digit];
+            }
+        }
+        return new String(encoded, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Write the hex text of the data in chunks, without building the whole text.
+     *
+     * @param data
+     * @param lineLength characters per line, or 0 to write a single line.
+     * @param writer
+     * @throws IOException
+     */
+    public static void encode(final byte[] data, final int lineLength, final Writer writer) throws IOException {
+        if (lineLength < 0) {
+            throw new IllegalArgumentException("Line length must not be negative");
+        }
+        final var buffer = new char[WRITE_BUFFER_SIZE];
+        var position = 0;
+        for (int i = 0; i < data.length; i++) {
+            final var index = (data[i] & 0xFF) * 2;
+            for (int digit = 0; digit < 2; digit++) {
+                if (position + 2 > buffer.length) {
+                    writer.write(buffer, 0, position);
+                    position = 0;
+                }
+                final var offset = i * 2 + digit;
+                if (lineLength > 0 && offset > 0 && offset % lineLength == 0) {
+                    buffer[position++] = '\n';
+                }
+                buffer[position++] = (char) ENCODE[index + digit];
+            }
+        }
+        writer.write(buffer, 0, position);
+    }
+
+    /**
+     * @param data
+     * @param offset
+     * @param length  bytes to encode.
+     * @param encoded target of the ASCII hex digits.
+     * @param target  position of the first digit in the target.
+     * @return number of digits written.
+     */
+    public static int encode(final byte[] data, final int offset, final int length,
+                             final byte[] encoded, final int target) {
+        for (int i = 0; i < length; i++) {
+            final var index = (data[offset + i] & 0xFF) * 2;
+            encoded[target + 2 * i] = ENCODE[index];
+            encoded[target + 2 * i + 1] = ENCODE[index + 1];
+        }
+        return length * 2;
+    }
+
+    /**
+     * @param data
+     * @param offset
+     * @param length  bytes to encode.
+     * @param encoded target of the hex digits.
+     * @param target  position of the first digit in the target.
+     * @return number of digits written.
+     */
+    public static int encode(final byte[] data, final int offset, final int length,
+                             final char[] encoded, final int target) {
+        for (int i = 0; i < length; i++) {
+            final var index = (data[offset + i] & 0xFF) * 2;
+            encoded[target + 2 * i] = (char) ENCODE[index];
+            encoded[target + 2 * i + 1] = (char) ENCODE[index + 1];
+        }
+        return length * 2;
+    }
+
+    /**
+     * Encode the remaining bytes of the input as ASCII hex digits into the output.
+     *
+     * @param input
+     * @param output it must have room for twice the remaining bytes of the input.
+     * @return number of digits written.
+     */
+    public static int encode(final ByteBuffer input, final ByteBuffer output) {
+        final var length = input.remaining();
+        if (output.remaining() < length * 2) {
+            throw new IllegalArgumentException("Output buffer too small for the encoded data");
+        }
+        while (input.hasRemaining()) {
+            final var index = (input.get() & 0xFF) * 2;
+            output.put(ENCODE[index]).put(ENCODE[index + 1]);
+        }
+        return length * 2;
+    }
+
+    /**
+     * @param encoded hex text, either case.
+     * @return the decoded data.
+     */
+    public static byte[] decode(final CharSequence encoded) {
+        if (encoded.length() % 2 != 0) {
+            throw new IllegalArgumentException("Hex text must have an even length");
+        }
+        final var data = new byte[encoded.length() / 2];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (digit(encoded.charAt(2 * i)) << 4 | digit(encoded.charAt(2 * i + 1)));
+        }
+        return data;
+    }
+
+    /**
+     * @param encoded hex digits, either case.
+     * @param offset
+     * @param length  digits to decode, it must be even.
+     * @param data    target of the decoded bytes.
+     * @param target  position of the first byte in the target.
+     * @return number of bytes written.
+     */
+    public static int decode(final char[] encoded, final int offset, final int length,
+                             final byte[] data, final int target) {
+        if (length % 2 != 0) {
+            throw new IllegalArgumentException("Hex text must have an even length");
+        }
+        for (int i = 0; i < length / 2; i++) {
+            data[target + i] = (byte) (digit(encoded[offset + 2 * i]) << 4 | digit(encoded[offset + 2 * i + 1]));
+        }
+        return length / 2;
+    }
+
+    /**
+     * Decode the remaining ASCII hex digits of the input into the output.
+     *
+     * @param input
+     * @param output it must have room for half the remaining digits of the input.
+     * @return number of bytes written.
+     */
+    public static int decode(final ByteBuffer input, final ByteBuffer output) {
+        final var length = input.remaining();
+        if (length % 2 != 0) {
+            throw new IllegalArgumentException("Hex text must have an even length");
+        }
+        if (output.remaining() < length / 2) {
+            throw new IllegalArgumentException("Output buffer too small for the decoded data");
+        }
+        while (input.hasRemaining()) {
+            output.put((byte) (digit((char) (input.get() & 0xFF)) << 4 | digit((char) (input.get() & 0xFF))));
+        }
+        return length / 2;
+    }
+
+    private static int digit(final char c) {
+        final var value = c < DECODE.length ? DECODE[c] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Illegal hex digit: " + c);
+        }
+        return value;
+    }
+}
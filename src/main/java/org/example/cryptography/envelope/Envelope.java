@@ -0,0 +1,48 @@
+package org.example.cryptography.envelope;
+
+import java.nio.ByteBuffer;
+
+import static org.example.cryptography.symmetric.AESCipher.GCM_NONCE_SIZE;
+
+/**
+ * Message encrypted with a data key, and the data key wrapped with the RSA public key.
+ * <pre>
+ * wrapped key size (2) | wrapped key | nonce (12) | ciphertext and tag
+ * </pre>
+ *
+ * @param wrappedKey data key encrypted with RSA/OAEP, it is shared by many messages.
+ * @param nonce      AES/GCM nonce of this message.
+ * @param ciphertext encrypted message, including the authentication tag.
+ */
+public record Envelope(byte[] wrappedKey, byte[] nonce, byte[] ciphertext) {
+
+    /**
+     * @return the envelope serialized.
+     */
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(Short.BYTES + wrappedKey.length + nonce.length + ciphertext.length)
+            .putShort((short) wrappedKey.length)
+            .put(wrappedKey)
+            .put(nonce)
+            .put(ciphertext)
+            .array();
+    }
+
+    /**
+     * @param data serialized envelope.
+     * @return the envelope.
+     */
+    public static Envelope fromBytes(final byte[] data) {
+        final var buffer = ByteBuffer.wrap(data);
+        final var wrappedKey = new byte[Short.toUnsignedInt(buffer.getShort())];
+        if (buffer.remaining() < wrappedKey.length + GCM_NONCE_SIZE) {
+            throw new IllegalArgumentException("Truncated envelope");
+        }
+        buffer.get(wrappedKey);
+        final var nonce = new byte[GCM_NONCE_SIZE];
+        buffer.get(nonce);
+        final var ciphertext = new byte[buffer.remaining()];
+        buffer.get(ciphertext);
+        return new Envelope(wrappedKey, nonce, ciphertext);
+    }
+}
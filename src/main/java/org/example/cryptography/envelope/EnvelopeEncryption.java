@@ -0,0 +1,156 @@
+package org.example.cryptography.envelope;
+
+import org.example.cryptography.asymmetric.RSACipher;
+import org.example.cryptography.asymmetric.RSAPadding;
+import org.example.cryptography.cache.ExpiringCache;
+import org.example.cryptography.hashing.Hash;
+import org.example.cryptography.random.CounterNonceGenerator;
+import org.example.cryptography.symmetric.AESCipher;
+import org.example.cryptography.symmetric.AESMode;
+
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Duration;
+
+import static org.example.cryptography.symmetric.AESCipher.AES;
+
+/**
+ * Hybrid (envelope) encryption: messages are encrypted with AES/GCM using a data key, and only the data key is
+ * encrypted (wrapped) with RSA/OAEP. RSA is used as intended, to encrypt AES keys, so messages are not limited
+ * to a single RSA block.
+ * A data key is wrapped once and reused for many messages until it reaches the maximum number of messages or
+ * its time-to-live. On the other side, unwrapped data keys are cached, so decrypting a stream of messages costs
+ * a single RSA operation per data key.
+ */
+public final class EnvelopeEncryption {
+
+    private final PublicKey publicKey;
+
+    private final PrivateKey privateKey;
+
+    private final Config config;
+
+    private final ExpiringCache<ByteBuffer, SecretKey> dataKeys;
+
+    private DataKey dataKey;
+
+    /**
+     * @param publicKey  used to wrap the data keys, it can be {@code null} if only decrypts.
+     * @param privateKey used to unwrap the data keys, it can be {@code null} if only encrypts.
+     */
+    public EnvelopeEncryption(final PublicKey publicKey, final PrivateKey privateKey) {
+        this(publicKey, privateKey, Config.DEFAULT);
+    }
+
+    /**
+     * @param publicKey  used to wrap the data keys, it can be {@code null} if only decrypts.
+     * @param privateKey used to unwrap the data keys, it can be {@code null} if only encrypts.
+     * @param config
+     */
+    public EnvelopeEncryption(final PublicKey publicKey, final PrivateKey privateKey, final Config config) {
+        this.publicKey = publicKey;
+        this.privateKey = privateKey;
+        this.config = config;
+        this.dataKeys = ExpiringCache.<ByteBuffer, SecretKey>builder()
+            .maximumSize(config.cacheSize())
+            .timeToLive(config.cacheTimeToLive())
+            .maximumUses(config.cacheMaximumUses())
+            .build();
+    }
+
+    /**
+     * @param data message of any size.
+     * @return the envelope with the encrypted message and the wrapped data key.
+     * @throws GeneralSecurityException
+     */
+    public Envelope encrypt(final byte[] data) throws GeneralSecurityException {
+        final var current = currentDataKey();
+        final var nonce = current.nonces.next();
+        final var ciphertext = AESCipher.encrypt(AESMode.GCM, data, current.secretKey, nonce);
+        return new Envelope(current.wrappedKey, nonce, ciphertext);
+    }
+
+    /**
+     * @param envelope
+     * @return the decrypted message.
+     * @throws GeneralSecurityException if the data key cannot be unwrapped or the message has been tampered.
+     */
+    public byte[] decrypt(final Envelope envelope) throws GeneralSecurityException {
+        if (privateKey == null) {
+            throw new IllegalStateException("Private key is required to decrypt");
+        }
+        final var secretKey = dataKeys.get(keyId(envelope.wrappedKey()),
+            keyId -> RSACipher.unwrap(RSAPadding.OAEP, envelope.wrappedKey(), AES, privateKey));
+        return AESCipher.decrypt(AESMode.GCM, envelope.ciphertext(), secretKey, envelope.nonce());
+    }
+
+    /**
+     * @return metrics of the unwrapped data keys cache, every miss is an RSA operation.
+     */
+    public ExpiringCache.Stats dataKeyCacheStats() {
+        return dataKeys.stats();
+    }
+
+    /**
+     * Get the data key used to encrypt, or generate and wrap a new one if it has been used for the maximum number
+     * of messages or it has expired.
+     */
+    private synchronized DataKey currentDataKey() throws GeneralSecurityException {
+        if (publicKey == null) {
+            throw new IllegalStateException("Public key is required to encrypt");
+        }
+        if (dataKey == null || dataKey.uses >= config.maximumMessages()
+            || System.nanoTime() - dataKey.created >= config.dataKeyTimeToLive().toNanos()) {
+            final var secretKey = AESCipher.generateKey();
+            final var wrappedKey = RSACipher.wrap(RSAPadding.OAEP, secretKey, publicKey);
+            dataKey = new DataKey(secretKey, wrappedKey, System.nanoTime());
+        }
+        dataKey.uses++;
+        return dataKey;
+    }
+
+    private static ByteBuffer keyId(final byte[] wrappedKey) {
+        return ByteBuffer.wrap(Hash.hash(wrappedKey));
+    }
+
+    /**
+     * Limits of the data keys.
+     *
+     * @param maximumMessages   messages encrypted with the same data key before generating a new one.
+     * @param dataKeyTimeToLive time a data key is used to encrypt before generating a new one.
+     * @param cacheSize         maximum number of unwrapped data keys cached.
+     * @param cacheTimeToLive   time an unwrapped data key is cached.
+     * @param cacheMaximumUses  messages decrypted with a cached data key before it must be unwrapped again.
+     */
+    public record Config(long maximumMessages, Duration dataKeyTimeToLive, int cacheSize,
+                         Duration cacheTimeToLive, long cacheMaximumUses) {
+
+        /**
+         * Data keys use deterministic nonces, but they are still rotated well before the GCM limits.
+         */
+        public static final Config DEFAULT =
+            new Config(1L << 20, Duration.ofHours(1), 1024, Duration.ofMinutes(10), 1L << 20);
+    }
+
+    private static final class DataKey {
+
+        private final SecretKey secretKey;
+
+        private final byte[] wrappedKey;
+
+        private final long created;
+
+        private final CounterNonceGenerator nonces = new CounterNonceGenerator();
+
+        private long uses;
+
+        private DataKey(final SecretKey secretKey, final byte[] wrappedKey, final long created) {
+            this.secretKey = secretKey;
+            this.wrappedKey = wrappedKey;
+            this.created = created;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.cache.ExpiringCache;
+import org.example.cryptography.random.NonceGenerator;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Cache of keys derived with {@link PBKDF2}, keyed by (algorithm, salt, iterations, key length, password).
+ * Unlocking the same vault on every request would repeat the whole key stretching each time, so the derived key
+ * is kept while it is cached and cleared when it is evicted.
+ * The password itself is never stored: it is identified by its HMAC with a random key generated for each cache,
+ * so the cache keys cannot be used to check password guesses without that key.
+ */
+public final class DerivedKeyCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final SecretKeySpec passwordKey = new SecretKeySpec(NonceGenerator.random(32), HMAC.HASH_ALGORITHM);
+
+    private final ExpiringCache<CacheKey, DerivedKey> keys;
+
+    public DerivedKeyCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * @param maximumSize maximum number of derived keys cached.
+     * @param timeToLive  time a derived key is cached.
+     */
+    public DerivedKeyCache(final int maximumSize, final Duration timeToLive) {
+        this.keys = ExpiringCache.<CacheKey, DerivedKey>builder()
+            .maximumSize(maximumSize)
+            .timeToLive(timeToLive)
+            .evictionListener((key, derivedKey) -> derivedKey.destroy())
+            .build();
+    }
+
+    /**
+     * @param password
+     * @param salt
+     * @return a copy of the derived key using the default algorithm, iterations and key length.
+     * @throws GeneralSecurityException
+     */
+    public byte[] derive(final char[] password, final byte[] salt) throws GeneralSecurityException {
+        return derive(PBKDF2.HASH_ALGORITHM, password, salt, PBKDF2.ITERATION_COUNT, PBKDF2.KEY_LENGTH);
+    }
+
+    /**
+     * @param algorithm  i.e. PBKDF2WithHmacSHA256
+     * @param password
+     * @param salt
+     * @param iterations
+     * @param keyLength  in bits.
+     * @return a copy of the derived key, the caller can clear it.
+     * @throws GeneralSecurityException
+     */
+    public byte[] derive(final String algorithm, final char[] password, final byte[] salt,
+                         final int iterations, final int keyLength) throws GeneralSecurityException {
+        final var cacheKey = new CacheKey(algorithm, ByteBuffer.wrap(salt.clone()), iterations, keyLength,
+            ByteBuffer.wrap(passwordHash(password)));
+        final var derivedKey = keys.get(cacheKey);
+        final var copy = derivedKey == null ? null : derivedKey.copy();
+        if (copy != null) {
+            return copy;
+        }
+        // Not cached, or evicted and cleared while it was being returned
+        final var hash = PBKDF2.hash(algorithm, password, salt, iterations, keyLength);
+        keys.put(cacheKey, new DerivedKey(hash.clone()));
+        return hash;
+    }
+
+    /**
+     * Remove and clear all the derived keys, i.e. when the vaults are locked.
+     */
+    public void invalidateAll() {
+        keys.invalidateAll();
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    public ExpiringCache.Stats stats() {
+        return keys.stats();
+    }
+
+    private byte[] passwordHash(final char[] password) throws GeneralSecurityException {
+        final var encoded = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+        try {
+            final var mac = MacPool.get(HMAC.HASH_ALGORITHM, passwordKey);
+            mac.update(encoded.duplicate());
+            return mac.doFinal();
+        } finally {
+            final var bytes = encoded.array();
+            Arrays.fill(bytes, (byte) 0);
+        }
+    }
+
+    private record CacheKey(String algorithm, ByteBuffer salt, int iterations, int keyLength,
+                            ByteBuffer passwordHash) {
+    }
+
+    /**
+     * Derived key that can be cleared on eviction while other threads may still be copying it.
+     */
+    private static final class DerivedKey {
+
+        private byte[] key;
+
+        private DerivedKey(final byte[] key) {
+            this.key = key;
+        }
+
+        private synchronized byte[] copy() {
+            return key == null ? null : key.clone();
+        }
+
+        private synchronized void destroy() {
+            if (key != null) {
+                Arrays.fill(key, (byte) 0);
+                key = null;
+            }
+        }
+    }
+}
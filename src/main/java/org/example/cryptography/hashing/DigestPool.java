@@ -0,0 +1,39 @@
+package org.example.cryptography.hashing;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Thread-confined pool of {@link MessageDigest} instances keyed by algorithm.
+ * {@link MessageDigest#getInstance(String)} does a provider lookup and allocates a new object on every call, so
+ * instances are created once per thread and reused afterward.
+ * The returned digest is reset, it is only valid on the calling thread and must be completed (digest) before the
+ * pool is used again from the same thread.
+ */
+public final class DigestPool {
+
+    private static final ThreadLocal<Map<String, MessageDigest>> DIGESTS = ThreadLocal.withInitial(HashMap::new);
+
+    private DigestPool() {
+    }
+
+    /**
+     * @param algorithm i.e. "SHA-256"
+     * @return the digest for the current thread.
+     * @throws NoSuchAlgorithmException
+     */
+    public static MessageDigest get(final String algorithm) throws NoSuchAlgorithmException {
+        final var digests = DIGESTS.get();
+        var messageDigest = digests.get(algorithm);
+        if (messageDigest == null) {
+            messageDigest = MessageDigest.getInstance(algorithm);
+            digests.put(algorithm, messageDigest);
+        } else {
+            // A previous use may have failed before completing the digest
+            messageDigest.reset();
+        }
+        return messageDigest;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.cryptography.hashing;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+/**
+ * HMAC-based key derivation function with SHA-256 (RFC 5869), i.e. to derive a key per stream from a long-lived
+ * key and a random salt.
+ * The keys are not taken from the {@link MacPool}, so neither the input key nor the pseudorandom key stay cached
+ * in the threads.
+ */
+public final class HKDF {
+
+    private HKDF() {
+    }
+
+    /**
+     * @param key    input keying material.
+     * @param salt
+     * @param info   context of the derived key.
+     * @param length in bytes, up to 255 blocks of the hash.
+     * @return the derived key.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] derive(final byte[] key, final byte[] salt, final byte[] info, final int length)
+        throws GeneralSecurityException {
+        final var prk = extract(salt, key);
+        try {
+            return expand(prk, info, length);
+        } finally {
+            Arrays.fill(prk, (byte) 0);
+        }
+    }
+
+    /**
+     * @param salt
+     * @param key  input keying material.
+     * @return the pseudorandom key.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] extract(final byte[] salt, final byte[] key) throws GeneralSecurityException {
+        final var mac = Mac.getInstance(HMAC.HASH_ALGORITHM);
+        // An empty salt is replaced by a block of zeros, SecretKeySpec rejects empty keys
+        mac.init(new SecretKeySpec(salt.length == 0 ? new byte[mac.getMacLength()] : salt, HMAC.HASH_ALGORITHM));
+        return mac.doFinal(key);
+    }
+
+    /**
+     * @param prk    pseudorandom key.
+     * @param info   context of the derived key.
+     * @param length in bytes, up to 255 blocks of the hash.
+     * @return the derived key.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] expand(final byte[] prk, final byte[] info, final int length)
+        throws GeneralSecurityException {
+        final var mac = Mac.getInstance(HMAC.HASH_ALGORITHM);
+        final var hashLength = mac.getMacLength();
+        if (length <= 0 || length > 255 * hashLength) {
+            throw new IllegalArgumentException("Invalid derived key length: " + length);
+        }
+        mac.init(new SecretKeySpec(prk, HMAC.HASH_ALGORITHM));
+        final var output = new byte[length];
+        var block = new byte[0];
+        for (int i = 1, offset = 0; offset < length; i++, offset += hashLength) {
+            mac.update(block);
+            mac.update(info);
+            mac.update((byte) i);
+            block = mac.doFinal();
+            System.arraycopy(block, 0, output, offset, Math.min(hashLength, length - offset));
+        }
+        Arrays.fill(block, (byte) 0);
+        return output;
+    }
+}
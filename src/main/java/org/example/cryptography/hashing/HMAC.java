@@ -0,0 +1,76 @@
+package org.example.cryptography.hashing;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+
+/**
+ * HMAC with SHA-256. The {@link Mac} is taken from the {@link MacPool}, which keeps one initialized instance per
+ * key and thread, since {@link Mac#doFinal()} resets it to the state of the last initialization.
+ */
+public final class HMAC {
+
+    /**
+     * HMAC algorithm consists of a secret key and a hash function (SHA-256).
+     */
+    public static final String HASH_ALGORITHM = "HmacSHA256";
+
+    private HMAC() {
+    }
+
+    /**
+     * @param data
+     * @param key shared key.
+     * @return the hmac of the data.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] hmac(final byte[] data, final byte[] key) throws GeneralSecurityException {
+        return MacPool.get(HASH_ALGORITHM, key).doFinal(data);
+    }
+
+    /**
+     * @param data
+     * @param key shared key.
+     * @return the hmac of the data.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] hmac(final byte[] data, final SecretKey key) throws GeneralSecurityException {
+        return MacPool.get(HASH_ALGORITHM, key).doFinal(data);
+    }
+
+    /**
+     * @param data   remaining bytes are consumed.
+     * @param key    shared key, reuse the same instance to avoid initializing the mac again.
+     * @param output the hmac is written at the current position.
+     * @return the number of bytes written.
+     * @throws GeneralSecurityException
+     */
+    public static int hmac(final ByteBuffer data, final SecretKey key, final ByteBuffer output)
+        throws GeneralSecurityException {
+        final var mac = MacPool.get(HASH_ALGORITHM, key);
+        mac.update(data);
+        return doFinal(mac, output);
+    }
+
+    /**
+     * Complete the mac into the output, using a scratch array of the thread when the output is direct.
+     */
+    static int doFinal(final Mac mac, final ByteBuffer output) throws ShortBufferException {
+        final var size = mac.getMacLength();
+        if (output.remaining() < size) {
+            mac.reset();
+            throw new ShortBufferException("Output buffer too small for the mac: " + output.remaining());
+        }
+        if (output.hasArray()) {
+            mac.doFinal(output.array(), output.arrayOffset() + output.position());
+        } else {
+            final var scratch = Hash.scratch(size);
+            mac.doFinal(scratch, 0);
+            output.put(output.position(), scratch, 0, size);
+        }
+        output.position(output.position() + size);
+        return size;
+    }
+}
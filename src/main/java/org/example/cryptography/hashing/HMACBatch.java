@@ -0,0 +1,198 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.cache.ExpiringCache;
+import org.example.cryptography.concurrent.ParallelTasks;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sign and verify batches of messages with HMAC-SHA256, i.e. to authenticate the requests of an API gateway.
+ * The keys are resolved by id through a cache, the batch is split in chunks processed in parallel on a
+ * {@link ForkJoinPool} with the initialized macs of the {@link MacPool}, and the macs are compared in constant
+ * time with {@link MessageDigest#isEqual(byte[], byte[])}.
+ */
+public final class HMACBatch {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    /**
+     * Resolve the shared key of a key id, i.e. from a database.
+     */
+    @FunctionalInterface
+    public interface KeyResolver {
+
+        /**
+         * @param keyId
+         * @return the shared key.
+         * @throws GeneralSecurityException if the key id is unknown.
+         */
+        byte[] resolve(String keyId) throws GeneralSecurityException;
+    }
+
+    private final ExpiringCache<String, byte[]> keys;
+
+    private final KeyResolver resolver;
+
+    private final ForkJoinPool pool;
+
+    private final int chunkSize;
+
+    /**
+     * @param resolver
+     */
+    public HMACBatch(final KeyResolver resolver) {
+        this(resolver, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE, 1024, Duration.ofMinutes(5));
+    }
+
+    /**
+     * @param resolver
+     * @param pool       pool used to process the chunks.
+     * @param chunkSize  messages processed by a single task.
+     * @param cacheSize  maximum number of keys cached.
+     * @param timeToLive time a resolved key is cached.
+     */
+    public HMACBatch(final KeyResolver resolver, final ForkJoinPool pool, final int chunkSize,
+                     final int cacheSize, final Duration timeToLive) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.resolver = resolver;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.keys = ExpiringCache.<String, byte[]>builder()
+            .maximumSize(cacheSize)
+            .timeToLive(timeToLive)
+            .build();
+    }
+
+    /**
+     * Message to sign or verify.
+     *
+     * @param keyId id of the shared key.
+     * @param data
+     * @param mac   mac to verify, it is ignored to sign.
+     */
+    public record Message(String keyId, byte[] data, byte[] mac) {
+    }
+
+    /**
+     * Metrics of a batch.
+     *
+     * @param messages     messages of the batch.
+     * @param failed       messages not valid, or not signed.
+     * @param unknownKeys  messages whose key could not be resolved, they are also failed.
+     * @param elapsedNanos time to process the batch.
+     */
+    public record Metrics(int messages, int failed, int unknownKeys, long elapsedNanos) {
+
+        public double messagesPerSecond() {
+            return elapsedNanos == 0 ? 0 : messages * 1e9 / elapsedNanos;
+        }
+    }
+
+    /**
+     * @param macs    mac of every message, or {@code null} if its key is unknown.
+     * @param metrics
+     */
+    public record Signing(byte[][] macs, Metrics metrics) {
+    }
+
+    /**
+     * @param valid   bitmap with the bit of every valid message set, in the order of the messages.
+     * @param metrics
+     */
+    public record Verification(BitSet valid, Metrics metrics) {
+    }
+
+    /**
+     * @param messages
+     * @return the mac of every message.
+     * @throws GeneralSecurityException
+     */
+    public Signing sign(final List<Message> messages) throws GeneralSecurityException {
+        final var start = System.nanoTime();
+        final var macs = new byte[messages.size()][];
+        final var unknownKeys = process(messages,
+            (index, key) -> macs[index] = HMAC.hmac(messages.get(index).data(), key));
+        // Only the messages with an unknown key cannot be signed
+        return new Signing(macs, new Metrics(messages.size(), unknownKeys, unknownKeys, System.nanoTime() - start));
+    }
+
+    /**
+     * Verify every message in constant time. Messages with an unknown key are not valid.
+     *
+     * @param messages
+     * @return the valid messages.
+     * @throws GeneralSecurityException
+     */
+    public Verification verify(final List<Message> messages) throws GeneralSecurityException {
+        final var start = System.nanoTime();
+        final var valid = new boolean[messages.size()];
+        final var unknownKeys = process(messages, (index, key) -> {
+            final var message = messages.get(index);
+            valid[index] = message.mac() != null
+                && MessageDigest.isEqual(HMAC.hmac(message.data(), key), message.mac());
+        });
+
+        final var result = new BitSet(valid.length);
+        for (int i = 0; i < valid.length; i++) {
+            result.set(i, valid[i]);
+        }
+        final var metrics = new Metrics(messages.size(), messages.size() - result.cardinality(), unknownKeys,
+            System.nanoTime() - start);
+        return new Verification(result, metrics);
+    }
+
+    /**
+     * @return metrics of the keys cache, every miss is a call to the resolver.
+     */
+    public ExpiringCache.Stats keyCacheStats() {
+        return keys.stats();
+    }
+
+    @FunctionalInterface
+    private interface MessageTask {
+        void run(int index, byte[] key) throws GeneralSecurityException;
+    }
+
+    /**
+     * Run the task for every message with a known key, resolving every key once per chunk.
+     *
+     * @return number of messages with an unknown key.
+     */
+    private int process(final List<Message> messages, final MessageTask task) throws GeneralSecurityException {
+        final var unknownKeys = new AtomicInteger();
+        final var chunks = (messages.size() + chunkSize - 1) / chunkSize;
+        ParallelTasks.forEach(pool, chunks, chunk -> {
+            final var resolved = new HashMap<String, byte[]>();
+            final var to = Math.min(messages.size(), (chunk + 1) * chunkSize);
+            for (int index = chunk * chunkSize; index < to; index++) {
+                final var key = resolved.computeIfAbsent(messages.get(index).keyId(), this::key);
+                if (key.length == 0) {
+                    unknownKeys.incrementAndGet();
+                } else {
+                    task.run(index, key);
+                }
+            }
+        });
+        return unknownKeys.get();
+    }
+
+    /**
+     * @return the key, or an empty key if it is unknown (HMAC keys are never empty).
+     */
+    private byte[] key(final String keyId) {
+        try {
+            return keys.get(keyId, resolver::resolve);
+        } catch (GeneralSecurityException e) {
+            return new byte[0];
+        }
+    }
+}
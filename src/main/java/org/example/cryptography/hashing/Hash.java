@@ -0,0 +1,114 @@
+package org.example.cryptography.hashing;
+
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Hash data with SHA-256. The {@link MessageDigest} is taken from the {@link DigestPool}, and the {@link ByteBuffer}
+ * overloads write the digest into the buffer given by the caller, so hashing does not allocate per message.
+ */
+public final class Hash {
+
+    /**
+     * Hash algorithm. It's recommended to use SHA-256 over legacy (non-trusted) algorithms such as SHA-1 or MD5
+     */
+    public static final String DEFAULT_HASH_ALGORITHM = "SHA-256";
+
+    /**
+     * SHA-256 digest size in bytes.
+     */
+    public static final int HASH_SIZE = 32;
+
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[HASH_SIZE]);
+
+    private Hash() {
+    }
+
+    /**
+     * @param data
+     * @return the hash of the data.
+     */
+    public static byte[] hash(final byte[] data) {
+        return digest().digest(data);
+    }
+
+    /**
+     * @param data
+     * @param salt applied before the data.
+     * @return the hash of the salt and the data.
+     */
+    public static byte[] hashWithSalt(final byte[] data, final byte[] salt) {
+        final var messageDigest = digest();
+        messageDigest.update(salt);
+        return messageDigest.digest(data);
+    }
+
+    /**
+     * @param data   remaining bytes are consumed.
+     * @param output the hash is written at the current position.
+     * @return the number of bytes written.
+     * @throws DigestException if there is not enough space in the output.
+     */
+    public static int hash(final ByteBuffer data, final ByteBuffer output) throws DigestException {
+        final var messageDigest = digest();
+        messageDigest.update(data);
+        return digest(messageDigest, output);
+    }
+
+    /**
+     * @param data   remaining bytes are consumed.
+     * @param salt   remaining bytes are consumed, it is applied before the data.
+     * @param output the hash is written at the current position.
+     * @return the number of bytes written.
+     * @throws DigestException if there is not enough space in the output.
+     */
+    public static int hashWithSalt(final ByteBuffer data, final ByteBuffer salt, final ByteBuffer output)
+        throws DigestException {
+        final var messageDigest = digest();
+        messageDigest.update(salt);
+        messageDigest.update(data);
+        return digest(messageDigest, output);
+    }
+
+    /**
+     * Complete the digest into the output, using a scratch array of the thread when the output is direct.
+     */
+    static int digest(final MessageDigest messageDigest, final ByteBuffer output) throws DigestException {
+        final var size = messageDigest.getDigestLength();
+        if (output.remaining() < size) {
+            messageDigest.reset();
+            throw new DigestException("Output buffer too small for the digest: " + output.remaining());
+        }
+        if (output.hasArray()) {
+            messageDigest.digest(output.array(), output.arrayOffset() + output.position(), size);
+        } else {
+            final var scratch = scratch(size);
+            messageDigest.digest(scratch, 0, size);
+            output.put(output.position(), scratch, 0, size);
+        }
+        output.position(output.position() + size);
+        return size;
+    }
+
+    static byte[] scratch(final int size) {
+        var scratch = SCRATCH.get();
+        if (scratch.length < size) {
+            scratch = new byte[size];
+            SCRATCH.set(scratch);
+        }
+        return scratch;
+    }
+
+    /**
+     * @return the SHA-256 digest of the current thread, it must be completed before other uses in the thread.
+     */
+    static MessageDigest digest() {
+        try {
+            return DigestPool.get(DEFAULT_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package org.example.cryptography.hashing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.Consumer;
+
+/**
+ * Hash data of any size incrementally, fed from arrays, buffers, streams or files in large chunks, so huge files
+ * are hashed with constant memory. Files are read into a direct buffer, which the channel fills without an
+ * intermediate copy.
+ * The state of the digest can be saved in a {@link Checkpoint} (a clone of the {@link MessageDigest}), so an
+ * interrupted hashing (i.e. an I/O error or a cancelled task) resumes from the last checkpoint instead of from the
+ * beginning.
+ * Instances are not thread-safe.
+ */
+public final class IncrementalHash {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private final MessageDigest messageDigest;
+
+    private final int bufferSize;
+
+    private ByteBuffer buffer;
+
+    private long position;
+
+    public IncrementalHash() {
+        this(Hash.DEFAULT_HASH_ALGORITHM, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param algorithm  hash algorithm, i.e. "SHA-256".
+     * @param bufferSize bytes read at once from streams and files.
+     */
+    public IncrementalHash(final String algorithm, final int bufferSize) {
+        this(newDigest(algorithm), 0, bufferSize);
+    }
+
+    private IncrementalHash(final MessageDigest messageDigest, final long position, final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        this.messageDigest = messageDigest;
+        this.position = position;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * @param checkpoint saved state of a hash.
+     * @return a new hash that continues from the checkpoint, the checkpoint can be resumed again.
+     */
+    public static IncrementalHash resume(final Checkpoint checkpoint) {
+        return new IncrementalHash(checkpoint.copy(), checkpoint.position(), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param file
+     * @return the SHA-256 of the whole file.
+     * @throws IOException
+     */
+    public static byte[] hash(final Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new IncrementalHash().update(channel, 0).digest();
+        }
+    }
+
+    /**
+     * @return number of bytes hashed.
+     */
+    public long position() {
+        return position;
+    }
+
+    public IncrementalHash update(final byte[] data) {
+        return update(data, 0, data.length);
+    }
+
+    public IncrementalHash update(final byte[] data, final int offset, final int length) {
+        messageDigest.update(data, offset, length);
+        position += length;
+        return this;
+    }
+
+    /**
+     * @param data remaining bytes are consumed.
+     * @return this hash.
+     */
+    public IncrementalHash update(final ByteBuffer data) {
+        position += data.remaining();
+        messageDigest.update(data);
+        return this;
+    }
+
+    /**
+     * Hash the stream until the end, it is not closed.
+     *
+     * @param in
+     * @return this hash.
+     * @throws IOException
+     */
+    public IncrementalHash update(final InputStream in) throws IOException {
+        final var chunk = new byte[bufferSize];
+        for (int count; (count = in.read(chunk)) >= 0; ) {
+            update(chunk, 0, count);
+        }
+        return this;
+    }
+
+    /**
+     * Hash the file from the given offset until the end, the position of the channel is not changed.
+     *
+     * @param channel
+     * @param from    offset of the first byte, i.e. the position of a checkpoint.
+     * @return this hash.
+     * @throws IOException
+     */
+    public IncrementalHash update(final FileChannel channel, final long from) throws IOException {
+        return update(channel, from, Long.MAX_VALUE, checkpoint -> {
+        });
+    }
+
+    /**
+     * Hash the file from the given offset until the end, saving a checkpoint every interval of bytes.
+     *
+     * @param channel
+     * @param from     offset of the first byte, i.e. the position of a checkpoint.
+     * @param interval bytes hashed between checkpoints.
+     * @param listener receives every checkpoint, i.e. to keep the last one.
+     * @return this hash.
+     * @throws IOException
+     */
+    public IncrementalHash update(final FileChannel channel, final long from, final long interval,
+                                  final Consumer<Checkpoint> listener) throws IOException {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        final var chunk = buffer();
+        var offset = from;
+        var next = position + interval;
+        while (true) {
+            chunk.clear();
+            final var count = channel.read(chunk, offset);
+            if (count < 0) {
+                break;
+            }
+            offset += count;
+            update(chunk.flip());
+            if (position >= next) {
+                listener.accept(checkpoint());
+                next = position + interval;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return the saved state of the hash.
+     */
+    public Checkpoint checkpoint() {
+        return new Checkpoint(copy(messageDigest), position);
+    }
+
+    /**
+     * Complete the hash, it is reset afterward.
+     *
+     * @return the hash of all the bytes.
+     */
+    public byte[] digest() {
+        position = 0;
+        return messageDigest.digest();
+    }
+
+    private ByteBuffer buffer() {
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+        return buffer;
+    }
+
+    private static MessageDigest copy(final MessageDigest messageDigest) {
+        try {
+            return (MessageDigest) messageDigest.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("Digest state cannot be saved: " + messageDigest.getAlgorithm(), e);
+        }
+    }
+
+    private static MessageDigest newDigest(final String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Saved state of a hash.
+     */
+    public static final class Checkpoint {
+
+        private final MessageDigest state;
+
+        private final long position;
+
+        private Checkpoint(final MessageDigest state, final long position) {
+            this.state = state;
+            this.position = position;
+        }
+
+        /**
+         * @return number of bytes hashed, the offset to resume a file from.
+         */
+        public long position() {
+            return position;
+        }
+
+        private MessageDigest copy() {
+            return IncrementalHash.copy(state);
+        }
+    }
+}
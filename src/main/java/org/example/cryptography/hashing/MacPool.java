@@ -0,0 +1,138 @@
+package org.example.cryptography.hashing;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-confined pool of initialized {@link Mac} instances keyed by (algorithm, key).
+ * Initializing an HMAC derives the inner and outer key pads, so every thread keeps one initialized mac per key,
+ * up to {@value #MAXIMUM_KEYS} keys per thread (least recently used first evicted), and relies on
+ * {@link Mac#doFinal()} resetting it to the state right after the initialization.
+ * The returned mac is only valid on the calling thread and must be completed (doFinal) before the pool is used
+ * again from the same thread.
+ * The pool keeps a copy of the keys, and the macs keep the pads derived from them, for as long as they are cached:
+ * until evicted or {@link #clear()}, or until the thread ends. On long-lived threads (pools, workers) that is the
+ * life of the application, so clear the pool of the threads that used a key once it is revoked or rotated.
+ */
+public final class MacPool {
+
+    /**
+     * Keys cached per thread, i.e. the signing keys of the API clients.
+     */
+    public static final int MAXIMUM_KEYS = 64;
+
+    private static final ThreadLocal<Macs> MACS = ThreadLocal.withInitial(Macs::new);
+
+    private MacPool() {
+    }
+
+    /**
+     * @param algorithm i.e. "HmacSHA256"
+     * @param key       raw key, it is identified by its content.
+     * @return the mac for the current thread initialized with the key.
+     * @throws GeneralSecurityException
+     */
+    public static Mac get(final String algorithm, final byte[] key) throws GeneralSecurityException {
+        final var macs = MACS.get();
+        final var mac = macs.get(new MacKey(algorithm, ByteBuffer.wrap(key)));
+        if (mac != null) {
+            return mac;
+        }
+        return macs.put(new MacKey(algorithm, ByteBuffer.wrap(key.clone())), new SecretKeySpec(key, algorithm));
+    }
+
+    /**
+     * @param algorithm i.e. "HmacSHA256"
+     * @param key       reuse the same instance to skip the lookup by content.
+     * @return the mac for the current thread initialized with the key.
+     * @throws GeneralSecurityException
+     */
+    public static Mac get(final String algorithm, final SecretKey key) throws GeneralSecurityException {
+        final var macs = MACS.get();
+        if (macs.lastKey == key && macs.lastMac.getAlgorithm().equals(algorithm)) {
+            macs.lastMac.reset();
+            return macs.lastMac;
+        }
+        final var encoded = key.getEncoded();
+        var mac = macs.get(new MacKey(algorithm, ByteBuffer.wrap(encoded)));
+        if (mac == null) {
+            mac = macs.put(new MacKey(algorithm, ByteBuffer.wrap(encoded)), key);
+        }
+        macs.lastKey = key;
+        macs.lastMac = mac;
+        return mac;
+    }
+
+    /**
+     * Remove the macs and the copies of the keys cached by the current thread, the copies are zeroed.
+     */
+    public static void clear() {
+        final var macs = MACS.get();
+        MACS.remove();
+        final var macKeys = macs.keySet().toArray(MacKey[]::new);
+        // The keys are only zeroed once out of the map, their hash depends on the content
+        macs.clear();
+        for (final var macKey : macKeys) {
+            macKey.clear();
+        }
+    }
+
+    private record MacKey(String algorithm, ByteBuffer key) {
+
+        /**
+         * Zero the copy of the key, it must not be looked up anymore.
+         */
+        private void clear() {
+            Arrays.fill(key.array(), (byte) 0);
+        }
+    }
+
+    private static final class Macs extends LinkedHashMap<MacKey, Mac> {
+
+        private static final long serialVersionUID = 1L;
+
+        private SecretKey lastKey;
+
+        private Mac lastMac;
+
+        private Macs() {
+            super(16, 0.75f, true);
+        }
+
+        private Mac get(final MacKey macKey) {
+            final var mac = super.get(macKey);
+            if (mac != null) {
+                // A previous use may have failed before completing the mac
+                mac.reset();
+            }
+            return mac;
+        }
+
+        private Mac put(final MacKey macKey, final SecretKey key) throws GeneralSecurityException {
+            final var mac = Mac.getInstance(macKey.algorithm());
+            mac.init(key);
+            put(macKey, mac);
+            return mac;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<MacKey, Mac> eldest) {
+            if (size() > MAXIMUM_KEYS) {
+                if (eldest.getValue() == lastMac) {
+                    lastKey = null;
+                    lastMac = null;
+                }
+                // Removed here to zero the key afterwards, the map would no longer find it by its hash
+                remove(eldest.getKey());
+                eldest.getKey().clear();
+            }
+            return false;
+        }
+    }
+}
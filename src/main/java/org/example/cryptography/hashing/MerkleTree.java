@@ -0,0 +1,217 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.concurrent.ParallelTasks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * SHA-256 Merkle tree of a file. The file is split in fixed-size leaves that are hashed in parallel on a
+ * {@link ForkJoinPool}, each worker with its own {@link MessageDigest}, and the leaf hashes are combined in pairs
+ * up to the root. A single SHA-256 stream is bound to one core, while the leaves use all of them.
+ * Leaf and node hashes are domain separated (RFC 6962): {@code H(0x00 | leaf)} and {@code H(0x01 | left | right)},
+ * an odd node is promoted to the next level unchanged.
+ * The leaf hashes are kept, so a modified range of the file is re-hashed without reading the rest, and two trees
+ * of the same file tell which leaves changed.
+ */
+public final class MerkleTree {
+
+    public static final int DEFAULT_LEAF_SIZE = 1024 * 1024;
+
+    private static final byte LEAF_PREFIX = 0x00;
+
+    private static final byte NODE_PREFIX = 0x01;
+
+    private static final ThreadLocal<ByteBuffer[]> BUFFERS = ThreadLocal.withInitial(() -> new ByteBuffer[1]);
+
+    private final int leafSize;
+
+    private final long size;
+
+    private final byte[][] leaves;
+
+    private final byte[] root;
+
+    private MerkleTree(final int leafSize, final long size, final byte[][] leaves) {
+        this.leafSize = leafSize;
+        this.size = size;
+        this.leaves = leaves;
+        this.root = root(leaves);
+    }
+
+    /**
+     * @param file
+     * @return the tree of the file with leaves of {@value #DEFAULT_LEAF_SIZE} bytes.
+     * @throws IOException
+     */
+    public static MerkleTree build(final Path file) throws IOException {
+        return build(file, DEFAULT_LEAF_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param file
+     * @param leafSize bytes of the file per leaf.
+     * @param pool     pool used to hash the leaves.
+     * @return the tree of the file.
+     * @throws IOException
+     */
+    public static MerkleTree build(final Path file, final int leafSize, final ForkJoinPool pool) throws IOException {
+        if (leafSize <= 0) {
+            throw new IllegalArgumentException("Leaf size must be positive");
+        }
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var size = channel.size();
+            final var leaves = new byte[leafCount(size, leafSize)][];
+            hashLeaves(channel, leafSize, leaves, IntStream.range(0, leaves.length).toArray(), pool);
+            return new MerkleTree(leafSize, size, leaves);
+        }
+    }
+
+    /**
+     * Re-hash only the leaves of a modified range of the file, the file may have grown or shrunk.
+     *
+     * @param file   the same file of this tree, after the modification.
+     * @param offset first modified byte.
+     * @param length modified bytes.
+     * @param pool   pool used to hash the leaves.
+     * @return the tree of the modified file.
+     * @throws IOException
+     */
+    public MerkleTree update(final Path file, final long offset, final long length, final ForkJoinPool pool)
+        throws IOException {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Modified range must not be negative");
+        }
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var newSize = channel.size();
+            final var newLeaves = Arrays.copyOf(leaves, leafCount(newSize, leafSize));
+            final var modified = new BitSet(newLeaves.length);
+            modified.set((int) Math.min(offset / leafSize, newLeaves.length),
+                (int) Math.min((offset + length + leafSize - 1) / leafSize, newLeaves.length));
+            if (newSize != size) {
+                // The last leaf of the shorter version is partial, and the leaves after it are new
+                modified.set((int) (Math.min(size, newSize) / leafSize), newLeaves.length);
+            }
+            hashLeaves(channel, leafSize, newLeaves, modified.stream().toArray(), pool);
+            return new MerkleTree(leafSize, newSize, newLeaves);
+        }
+    }
+
+    /**
+     * @param other tree of the same file with the same leaf size, i.e. before a modification.
+     * @return indexes of the leaves that are different or exist only in one of the trees.
+     */
+    public List<Integer> changedLeaves(final MerkleTree other) {
+        if (other.leafSize != leafSize) {
+            throw new IllegalArgumentException("Trees must have the same leaf size");
+        }
+        final var changed = new ArrayList<Integer>();
+        for (int i = 0; i < Math.max(leaves.length, other.leaves.length); i++) {
+            if (i >= leaves.length || i >= other.leaves.length
+                || !MessageDigest.isEqual(leaves[i], other.leaves[i])) {
+                changed.add(i);
+            }
+        }
+        return changed;
+    }
+
+    public byte[] root() {
+        return root.clone();
+    }
+
+    public byte[] leaf(final int index) {
+        return leaves[index].clone();
+    }
+
+    public int leafCount() {
+        return leaves.length;
+    }
+
+    public int leafSize() {
+        return leafSize;
+    }
+
+    /**
+     * @return bytes of the file.
+     */
+    public long size() {
+        return size;
+    }
+
+    private static int leafCount(final long size, final int leafSize) {
+        final var count = size == 0 ? 1 : (size + leafSize - 1) / leafSize;
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many leaves, the leaf size must be larger");
+        }
+        return (int) count;
+    }
+
+    private static void hashLeaves(final FileChannel channel, final int leafSize, final byte[][] leaves,
+                                   final int[] indexes, final ForkJoinPool pool) throws IOException {
+        try {
+            ParallelTasks.forEach(pool, indexes.length, index -> leaves[indexes[index]] =
+                hashLeaf(channel, (long) indexes[index] * leafSize, leafSize));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] hashLeaf(final FileChannel channel, final long offset, final int leafSize) {
+        final var buffer = buffer(leafSize);
+        try {
+            while (buffer.hasRemaining() && channel.read(buffer, offset + buffer.position()) >= 0) {
+                // Read until the leaf is complete or the end of the file
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final var messageDigest = Hash.digest();
+        messageDigest.update(LEAF_PREFIX);
+        messageDigest.update(buffer.flip());
+        return messageDigest.digest();
+    }
+
+    private static byte[] root(final byte[][] leaves) {
+        var level = leaves;
+        while (level.length > 1) {
+            final var next = new byte[(level.length + 1) / 2][];
+            for (int i = 0; i < next.length; i++) {
+                if (2 * i + 1 == level.length) {
+                    next[i] = level[2 * i];
+                } else {
+                    final var messageDigest = Hash.digest();
+                    messageDigest.update(NODE_PREFIX);
+                    messageDigest.update(level[2 * i]);
+                    next[i] = messageDigest.digest(level[2 * i + 1]);
+                }
+            }
+            level = next;
+        }
+        return level[0];
+    }
+
+    /**
+     * Direct buffer of the current thread to read a leaf, the file is read without an intermediate copy.
+     */
+    private static ByteBuffer buffer(final int leafSize) {
+        final var buffers = BUFFERS.get();
+        if (buffers[0] == null || buffers[0].capacity() < leafSize) {
+            buffers[0] = ByteBuffer.allocateDirect(leafSize);
+        }
+        return buffers[0].clear().limit(leafSize);
+    }
+}
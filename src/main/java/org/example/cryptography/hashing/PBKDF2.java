@@ -0,0 +1,81 @@
+package org.example.cryptography.hashing;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+/**
+ * Password hashing (key stretching) with PBKDF2.
+ */
+public final class PBKDF2 {
+
+    /**
+     * PBKDF2 applies a pseudorandom function (HMAC) to the password along with a salt value and repeats the
+     * process many times to produce a derived key.
+     */
+    public static final String HASH_ALGORITHM = "PBKDF2WithHmacSHA1";
+
+    public static final int ITERATION_COUNT = 65536;
+
+    public static final int KEY_LENGTH = 128;
+
+    private PBKDF2() {
+    }
+
+    /**
+     * @param password
+     * @param salt
+     * @return the derived key using the default iterations and key length.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] hash(final char[] password, final byte[] salt) throws GeneralSecurityException {
+        return hash(HASH_ALGORITHM, password, salt, ITERATION_COUNT, KEY_LENGTH);
+    }
+
+    /**
+     * @param algorithm  i.e. PBKDF2WithHmacSHA256
+     * @param password
+     * @param salt
+     * @param iterations
+     * @param keyLength  in bits.
+     * @return the derived key.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] hash(final String algorithm, final char[] password, final byte[] salt,
+                              final int iterations, final int keyLength) throws GeneralSecurityException {
+        final var spec = new PBEKeySpec(password, salt, iterations, keyLength);
+        try {
+            final var factory = SecretKeyFactory.getInstance(algorithm);
+            return factory.generateSecret(spec).getEncoded();
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    /**
+     * Write the derived key into the output. {@link SecretKeyFactory} always returns a new key, so the
+     * intermediate copy is cleared once it is written.
+     *
+     * @param password
+     * @param salt
+     * @param output   the derived key is written at the current position.
+     * @return the number of bytes written.
+     * @throws GeneralSecurityException
+     */
+    public static int hash(final char[] password, final byte[] salt, final ByteBuffer output)
+        throws GeneralSecurityException {
+        if (output.remaining() < KEY_LENGTH / 8) {
+            throw new ShortBufferException("Output buffer too small for the key: " + output.remaining());
+        }
+        final var hash = hash(password, salt);
+        try {
+            output.put(hash);
+            return hash.length;
+        } finally {
+            Arrays.fill(hash, (byte) 0);
+        }
+    }
+}
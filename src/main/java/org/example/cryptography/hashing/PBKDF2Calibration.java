@@ -0,0 +1,128 @@
+package org.example.cryptography.hashing;
+
+import javax.crypto.SecretKeyFactory;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Choose the PBKDF2 parameters for this machine: the strongest HMAC available and the iterations that take the
+ * target latency, measured at startup instead of hardcoding a count that is too cheap on fast nodes and too slow
+ * on small ones. The iterations are never below the recommended count of the algorithm (OWASP), a fast machine
+ * raises the cost but a slow one does not lower it.
+ */
+public final class PBKDF2Calibration {
+
+    public static final Duration DEFAULT_TARGET = Duration.ofMillis(100);
+
+    /**
+     * Algorithms by preference, {@link PBKDF2#HASH_ALGORITHM} is used if none of them is available.
+     */
+    public static final List<String> PREFERRED_ALGORITHMS = List.of("PBKDF2WithHmacSHA512", "PBKDF2WithHmacSHA256");
+
+    /**
+     * Lower bound of the iterations for any algorithm, whatever the speed of the machine.
+     */
+    public static final int MINIMUM_ITERATIONS = PBKDF2.ITERATION_COUNT;
+
+    private static final int SAMPLE_ITERATIONS = 10_000;
+
+    private static final int SAMPLES = 3;
+
+    private PBKDF2Calibration() {
+    }
+
+    /**
+     * @return the parameters for the {@link #DEFAULT_TARGET} latency.
+     * @throws GeneralSecurityException
+     */
+    public static PasswordHash.Parameters calibrate() throws GeneralSecurityException {
+        return calibrate(DEFAULT_TARGET);
+    }
+
+    /**
+     * @param target latency of hashing one password.
+     * @return the parameters using the preferred algorithm available.
+     * @throws GeneralSecurityException
+     */
+    public static PasswordHash.Parameters calibrate(final Duration target) throws GeneralSecurityException {
+        final var algorithm = preferredAlgorithm();
+        return calibrate(algorithm, keyLength(algorithm), target);
+    }
+
+    /**
+     * @param algorithm i.e. PBKDF2WithHmacSHA256
+     * @param keyLength in bits.
+     * @param target    latency of hashing one password.
+     * @return the parameters with the iterations that take the target latency, rounded down to thousands, and not
+     * below {@link #minimumIterations(String)}.
+     * @throws GeneralSecurityException
+     */
+    public static PasswordHash.Parameters calibrate(final String algorithm, final int keyLength,
+                                                    final Duration target) throws GeneralSecurityException {
+        final var password = "calibration".toCharArray();
+        final var salt = new byte[PasswordHash.SALT_SIZE];
+        // First run warms up the provider, then keep the fastest sample to discard the noise
+        PBKDF2.hash(algorithm, password, salt, SAMPLE_ITERATIONS, keyLength);
+        var elapsed = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            final var start = System.nanoTime();
+            PBKDF2.hash(algorithm, password, salt, SAMPLE_ITERATIONS, keyLength);
+            elapsed = Math.min(elapsed, System.nanoTime() - start);
+        }
+        final var iterations = (double) target.toNanos() * SAMPLE_ITERATIONS / Math.max(elapsed, 1);
+        final var rounded = (int) Math.min(iterations / 1000, Integer.MAX_VALUE / 1000) * 1000;
+        return new PasswordHash.Parameters(algorithm, Math.max(rounded, minimumIterations(algorithm)), keyLength);
+    }
+
+    /**
+     * @param algorithm i.e. PBKDF2WithHmacSHA256
+     * @return the recommended iterations of the algorithm, at least {@link #MINIMUM_ITERATIONS}.
+     */
+    public static int minimumIterations(final String algorithm) {
+        final int recommended;
+        if (algorithm.endsWith("SHA512")) {
+            recommended = 210_000;
+        } else if (algorithm.endsWith("SHA256")) {
+            recommended = 600_000;
+        } else if (algorithm.endsWith("SHA1")) {
+            recommended = 1_300_000;
+        } else {
+            recommended = MINIMUM_ITERATIONS;
+        }
+        return Math.max(recommended, MINIMUM_ITERATIONS);
+    }
+
+    /**
+     * @return the first of {@link #PREFERRED_ALGORITHMS} supported by the installed providers.
+     */
+    public static String preferredAlgorithm() {
+        for (final var algorithm : PREFERRED_ALGORITHMS) {
+            try {
+                SecretKeyFactory.getInstance(algorithm);
+                return algorithm;
+            } catch (NoSuchAlgorithmException e) {
+                // Try the next one
+            }
+        }
+        return PBKDF2.HASH_ALGORITHM;
+    }
+
+    /**
+     * A key longer than the output of the HMAC doubles the work of the server, not of the attacker.
+     *
+     * @param algorithm
+     * @return the output length of the HMAC in bits.
+     */
+    static int keyLength(final String algorithm) {
+        if (algorithm.endsWith("SHA512")) {
+            return 512;
+        } else if (algorithm.endsWith("SHA384")) {
+            return 384;
+        } else if (algorithm.endsWith("SHA256")) {
+            return 256;
+        }
+        return PBKDF2.KEY_LENGTH;
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.encoding.Base64Codec;
+import org.example.cryptography.random.NonceGenerator;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * Stored password hash that describes how it was derived, so the parameters can be raised over time while the
+ * hashes stored with the previous ones can still be verified (and upgraded on the next login).
+ * It is encoded as {@code $<algorithm>$<iterations>$<salt>$<hash>}, with the salt and the hash in Base64 without
+ * padding, i.e. {@code $PBKDF2WithHmacSHA256$600000$2hq1r8xOHh1vT5Hr2pF1oQ$Q0V...}.
+ *
+ * @param algorithm  i.e. PBKDF2WithHmacSHA256
+ * @param iterations
+ * @param salt
+ * @param hash       derived key.
+ */
+public record PasswordHash(String algorithm, int iterations, byte[] salt, byte[] hash) {
+
+    public static final int SALT_SIZE = 16;
+
+    private static final String SEPARATOR = "$";
+
+    public PasswordHash {
+        if (algorithm.isEmpty() || algorithm.contains(SEPARATOR)) {
+            throw new IllegalArgumentException("Invalid algorithm: " + algorithm);
+        }
+        if (iterations <= 0 || salt.length == 0 || hash.length == 0) {
+            throw new IllegalArgumentException("Iterations, salt and hash must not be empty");
+        }
+    }
+
+    /**
+     * @param parameters
+     * @param password
+     * @return the hash of the password with a new random salt.
+     * @throws GeneralSecurityException
+     */
+    public static PasswordHash create(final Parameters parameters, final char[] password)
+        throws GeneralSecurityException {
+        final var salt = NonceGenerator.random(SALT_SIZE);
+        final var hash = PBKDF2.hash(parameters.algorithm(), password, salt, parameters.iterations(),
+            parameters.keyLength());
+        return new PasswordHash(parameters.algorithm(), parameters.iterations(), salt, hash);
+    }
+
+    /**
+     * @param encoded
+     * @return the decoded hash.
+     * @throws IllegalArgumentException if it is not a valid encoded hash.
+     */
+    public static PasswordHash parse(final String encoded) {
+        final var fields = encoded.split("\\$", -1);
+        if (fields.length != 5 || !fields[0].isEmpty()) {
+            throw new IllegalArgumentException("Invalid encoded password hash");
+        }
+        try {
+            return new PasswordHash(fields[1], Integer.parseInt(fields[2]),
+                Base64Codec.STANDARD.decode(fields[3]), Base64Codec.STANDARD.decode(fields[4]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid iterations of the encoded password hash", e);
+        }
+    }
+
+    /**
+     * @param password
+     * @return whether the password derives the same hash, compared in constant time.
+     * @throws GeneralSecurityException
+     */
+    public boolean matches(final char[] password) throws GeneralSecurityException {
+        final var derived = PBKDF2.hash(algorithm, password, salt, iterations, hash.length * 8);
+        try {
+            return MessageDigest.isEqual(derived, hash);
+        } finally {
+            Arrays.fill(derived, (byte) 0);
+        }
+    }
+
+    /**
+     * @param parameters current parameters.
+     * @return whether the hash was derived with a different algorithm or key length, or fewer iterations.
+     */
+    public boolean isOutdated(final Parameters parameters) {
+        return !algorithm.equals(parameters.algorithm()) || iterations < parameters.iterations()
+            || hash.length * 8 != parameters.keyLength();
+    }
+
+    public String encode() {
+        return SEPARATOR + algorithm + SEPARATOR + iterations + SEPARATOR + encode(salt) + SEPARATOR + encode(hash);
+    }
+
+    private static String encode(final byte[] data) {
+        final var encoded = Base64Codec.STANDARD.encode(data);
+        final var padding = encoded.indexOf('=');
+        return padding < 0 ? encoded : encoded.substring(0, padding);
+    }
+
+    /**
+     * Parameters used to derive the new hashes.
+     *
+     * @param algorithm  i.e. PBKDF2WithHmacSHA256
+     * @param iterations
+     * @param keyLength  in bits.
+     */
+    public record Parameters(String algorithm, int iterations, int keyLength) {
+
+        public static final Parameters DEFAULT = new Parameters(PBKDF2.HASH_ALGORITHM, PBKDF2.ITERATION_COUNT,
+            PBKDF2.KEY_LENGTH);
+
+        public Parameters {
+            if (iterations <= 0 || keyLength <= 0 || keyLength % 8 != 0) {
+                throw new IllegalArgumentException("Invalid iterations or key length");
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.cryptography.hashing;
+
+import java.security.GeneralSecurityException;
+
+/**
+ * Hash and verify passwords stored as {@link PasswordHash}, upgrading on login the hashes derived with outdated
+ * parameters: the password is only available in clear when the user logs in, so that is the moment to rehash it.
+ * An upgrade never lowers the iterations: a hash stored with more iterations than the current parameters keeps its
+ * count when it is rehashed to another algorithm or key length.
+ */
+public final class PasswordHasher {
+
+    private final PasswordHash.Parameters parameters;
+
+    /**
+     * @param parameters used for the new hashes, i.e. from {@link PBKDF2Calibration#calibrate()}.
+     */
+    public PasswordHasher(final PasswordHash.Parameters parameters) {
+        this.parameters = parameters;
+    }
+
+    public PasswordHash.Parameters parameters() {
+        return parameters;
+    }
+
+    /**
+     * @param password
+     * @return the encoded hash to store.
+     * @throws GeneralSecurityException
+     */
+    public String hash(final char[] password) throws GeneralSecurityException {
+        return PasswordHash.create(parameters, password).encode();
+    }
+
+    /**
+     * @param password
+     * @param stored   encoded hash.
+     * @return whether the password is valid, and the new hash to store if the stored one is outdated, with the
+     * current algorithm and key length and the larger of the stored and current iterations.
+     * @throws GeneralSecurityException
+     */
+    public Verification verify(final char[] password, final String stored) throws GeneralSecurityException {
+        final var passwordHash = PasswordHash.parse(stored);
+        if (!passwordHash.matches(password)) {
+            return new Verification(false, null);
+        }
+        if (!passwordHash.isOutdated(parameters)) {
+            return new Verification(true, null);
+        }
+        final var target = new PasswordHash.Parameters(parameters.algorithm(),
+            Math.max(parameters.iterations(), passwordHash.iterations()), parameters.keyLength());
+        return new Verification(true, PasswordHash.create(target, password).encode());
+    }
+
+    /**
+     * @param valid  whether the password matches the stored hash.
+     * @param rehash new encoded hash that replaces the stored one, or {@code null} if it is up to date.
+     */
+    public record Verification(boolean valid, String rehash) {
+
+        public boolean needsRehash() {
+            return rehash != null;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package org.example.cryptography.hashing;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Asynchronous password hashing with PBKDF2 on a dedicated, bounded pool of threads, so a burst of logins does not
+ * starve the request (I/O) threads with the CPU-heavy key stretching.
+ * Requests wait in a bounded queue; when it is full they are rejected immediately (backpressure) with a future
+ * completed with {@link RejectedExecutionException}, instead of queueing without limit.
+ */
+public final class PasswordHashingService implements AutoCloseable {
+
+    private final Config config;
+
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder waitNanos = new LongAdder();
+
+    private final LongAdder hashNanos = new LongAdder();
+
+    private final LongAccumulator maximumLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    public PasswordHashingService() {
+        this(Config.DEFAULT);
+    }
+
+    /**
+     * @param config
+     */
+    public PasswordHashingService(final Config config) {
+        this.config = config;
+        final var counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(config.threads(), config.threads(), 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(config.queueCapacity()), runnable -> {
+            final var thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * @param password it is copied, the caller can clear it as soon as the method returns.
+     * @param salt
+     * @return the future derived key, using the iterations and key length of the configuration.
+     */
+    public CompletableFuture<byte[]> hash(final char[] password, final byte[] salt) {
+        final var task = new HashTask(password.clone(), salt);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            Arrays.fill(task.password, '\0');
+            rejected.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+        return task.future;
+    }
+
+    /**
+     * @param password it is copied, the caller can clear it as soon as the method returns.
+     * @param salt
+     * @param expected stored derived key.
+     * @return the future result of comparing, in constant time, the derived key with the expected one.
+     */
+    public CompletableFuture<Boolean> verify(final char[] password, final byte[] salt, final byte[] expected) {
+        return hash(password, salt).thenApply(hash -> {
+            try {
+                return MessageDigest.isEqual(hash, expected);
+            } finally {
+                Arrays.fill(hash, (byte) 0);
+            }
+        });
+    }
+
+    /**
+     * @return the metrics of the service.
+     */
+    public Stats stats() {
+        final var count = completed.sum();
+        return new Stats(count, rejected.sum(), failed.sum(), executor.getQueue().size(), executor.getActiveCount(),
+            count == 0 ? 0 : waitNanos.sum() / count, count == 0 ? 0 : hashNanos.sum() / count,
+            maximumLatencyNanos.get());
+    }
+
+    /**
+     * Stop accepting requests and wait for the queued ones to complete. If they take more than a minute, or if
+     * interrupted while waiting (the interrupt status is restored), the requests still queued are completed with
+     * {@link CancellationException}.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                cancelQueued();
+            }
+        } catch (InterruptedException e) {
+            cancelQueued();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void cancelQueued() {
+        for (final var runnable : executor.shutdownNow()) {
+            ((HashTask) runnable).cancel();
+        }
+    }
+
+    /**
+     * Queued request, it owns the copy of the password and the future of the derived key.
+     */
+    private final class HashTask implements Runnable {
+
+        private final CompletableFuture<byte[]> future = new CompletableFuture<>();
+
+        private final char[] password;
+
+        private final byte[] salt;
+
+        private final long submitted = System.nanoTime();
+
+        private HashTask(final char[] password, final byte[] salt) {
+            this.password = password;
+            this.salt = salt;
+        }
+
+        @Override
+        public void run() {
+            final var started = System.nanoTime();
+            byte[] hash = null;
+            Exception failure = null;
+            try {
+                hash = PBKDF2.hash(config.algorithm(), password, salt, config.iterations(), config.keyLength());
+            } catch (GeneralSecurityException | RuntimeException e) {
+                failed.increment();
+                failure = e;
+            } finally {
+                Arrays.fill(password, '\0');
+                record(submitted, started, System.nanoTime());
+            }
+            // Completed once recorded, so the stats already count the request when the caller sees the result
+            if (failure == null) {
+                future.complete(hash);
+            } else {
+                future.completeExceptionally(failure);
+            }
+        }
+
+        private void cancel() {
+            Arrays.fill(password, '\0');
+            future.completeExceptionally(new CancellationException());
+        }
+    }
+
+    private void record(final long submitted, final long started, final long finished) {
+        completed.increment();
+        waitNanos.add(started - submitted);
+        hashNanos.add(finished - started);
+        maximumLatencyNanos.accumulate(finished - submitted);
+    }
+
+    /**
+     * Configuration of the service.
+     *
+     * @param threads       threads hashing passwords, at most the cores that can be spared from the I/O path.
+     * @param queueCapacity requests waiting for a thread before rejecting new ones.
+     * @param algorithm     i.e. PBKDF2WithHmacSHA256
+     * @param iterations
+     * @param keyLength     in bits.
+     */
+    public record Config(int threads, int queueCapacity, String algorithm, int iterations, int keyLength) {
+
+        public static final Config DEFAULT = new Config(Runtime.getRuntime().availableProcessors(), 1024,
+            PBKDF2.HASH_ALGORITHM, PBKDF2.ITERATION_COUNT, PBKDF2.KEY_LENGTH);
+
+        public Config {
+            if (threads <= 0 || queueCapacity <= 0 || iterations <= 0 || keyLength <= 0) {
+                throw new IllegalArgumentException(
+                    "Threads, queue capacity, iterations and key length must be positive");
+            }
+        }
+    }
+
+    /**
+     * Metrics of the service.
+     *
+     * @param completed           requests hashed, including the failed ones.
+     * @param rejected            requests rejected because the queue was full.
+     * @param failed              requests that could not be hashed.
+     * @param queueDepth          requests waiting for a thread.
+     * @param active              requests being hashed.
+     * @param averageWaitNanos    average time waiting in the queue.
+     * @param averageHashNanos    average time hashing.
+     * @param maximumLatencyNanos maximum time from the request to the result.
+     */
+    public record Stats(long completed, long rejected, long failed, int queueDepth, int active,
+                        long averageWaitNanos, long averageHashNanos, long maximumLatencyNanos) {
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.cryptography.random;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deterministic GCM nonces (NIST SP 800-38D, section 8.2.1): a fixed field that identifies the generator followed
+ * by an invocation counter. The nonces never repeat while the same key is used with a single generator, so unlike
+ * random nonces the number of messages is not limited by the collision probability but only by the counter.
+ * Generating a nonce is a single atomic increment.
+ */
+public final class CounterNonceGenerator {
+
+    public static final int FIXED_FIELD_SIZE = 4;
+
+    public static final int COUNTER_SIZE = 8;
+
+    public static final int NONCE_SIZE = FIXED_FIELD_SIZE + COUNTER_SIZE;
+
+    private final byte[] fixedField;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    /**
+     * Generator with a random fixed field, to be used with a fresh key.
+     */
+    public CounterNonceGenerator() {
+        this(NonceGenerator.random(FIXED_FIELD_SIZE));
+    }
+
+    /**
+     * @param fixedField identifies the device or context, it must be unique for every generator of the same key.
+     */
+    public CounterNonceGenerator(final byte[] fixedField) {
+        if (fixedField.length != FIXED_FIELD_SIZE) {
+            throw new IllegalArgumentException("Fixed field must be " + FIXED_FIELD_SIZE + " bytes");
+        }
+        this.fixedField = fixedField.clone();
+    }
+
+    /**
+     * @return a new nonce of {@value #NONCE_SIZE} bytes.
+     */
+    public byte[] next() {
+        final var nonce = new byte[NONCE_SIZE];
+        next(nonce);
+        return nonce;
+    }
+
+    /**
+     * Write the next nonce at the beginning of the array.
+     *
+     * @param nonce
+     * @throws IllegalStateException if the counter has been exhausted, the key must be replaced.
+     */
+    public void next(final byte[] nonce) {
+        final var invocation = counter.getAndIncrement();
+        if (invocation < 0) {
+            throw new IllegalStateException("Nonce counter exhausted, the key must be replaced");
+        }
+        ByteBuffer.wrap(nonce).put(fixedField).putLong(invocation);
+    }
+
+    /**
+     * @return number of nonces generated.
+     */
+    public long invocations() {
+        final var invocations = counter.get();
+        return invocations < 0 ? Long.MAX_VALUE : invocations;
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.cryptography.random;
+
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+import static java.security.DrbgParameters.Capability.NONE;
+
+/**
+ * Random nonces, IVs and key material without creating a {@link SecureRandom} per call and without blocking.
+ * Every thread owns a DRBG (NIST SP 800-90A) instance, seeded once from the system entropy, and draws random
+ * bytes from it in bulk: small requests are served from a per-thread buffer that is refilled when exhausted,
+ * so the DRBG cost is amortized over many nonces and threads never contend on a shared generator.
+ */
+public final class NonceGenerator {
+
+    public static final String DRBG = "DRBG";
+
+    /**
+     * Security strength in bits of the DRBG instances.
+     */
+    public static final int STRENGTH = 256;
+
+    /**
+     * Random bytes drawn from the DRBG at once.
+     */
+    public static final int BUFFER_SIZE = 4096;
+
+    private static final ThreadLocal<Buffer> BUFFERS = ThreadLocal.withInitial(Buffer::new);
+
+    private NonceGenerator() {
+    }
+
+    /**
+     * @param size bytes of the nonce.
+     * @return a new random nonce.
+     */
+    public static byte[] random(final int size) {
+        final var nonce = new byte[size];
+        nextBytes(nonce);
+        return nonce;
+    }
+
+    /**
+     * Fill the array with random bytes.
+     *
+     * @param bytes
+     */
+    public static void nextBytes(final byte[] bytes) {
+        final var buffer = BUFFERS.get();
+        if (bytes.length > BUFFER_SIZE) {
+            // Large requests, i.e. key material, go straight to the generator
+            buffer.random.nextBytes(bytes);
+            return;
+        }
+        buffer.next(bytes);
+    }
+
+    /**
+     * @return the DRBG of the current thread, i.e. to initialize a {@link javax.crypto.KeyGenerator}. It is
+     * thread-safe, but it should not be shared with other threads to avoid contention.
+     */
+    public static SecureRandom secureRandom() {
+        return BUFFERS.get().random;
+    }
+
+    private static SecureRandom newDrbg() {
+        try {
+            // Personalization string so two threads never share a DRBG state even with the same seed
+            final var personalization = (Thread.currentThread().getId() + ":" + System.nanoTime()).getBytes();
+            return SecureRandom.getInstance(DRBG, DrbgParameters.instantiation(STRENGTH, NONE, personalization));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Buffer {
+
+        private final SecureRandom random = newDrbg();
+
+        private final byte[] bytes = new byte[BUFFER_SIZE];
+
+        private int position = BUFFER_SIZE;
+
+        private void next(final byte[] output) {
+            if (position + output.length > BUFFER_SIZE) {
+                random.nextBytes(bytes);
+                position = 0;
+            }
+            System.arraycopy(bytes, position, output, 0, output.length);
+            // Never hand out the same random bytes twice
+            Arrays.fill(bytes, position, position + output.length, (byte) 0);
+            position += output.length;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.cryptography.server;
+
+import org.example.cryptography.concurrent.TaskExecutors;
+import org.example.cryptography.encoding.Base64Codec;
+import org.example.cryptography.random.NonceGenerator;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load test of a {@link CryptoServer} on localhost: many concurrent connections, each one sending its requests one
+ * after another and measuring the latency of every response.
+ */
+public final class CryptoLoadTest {
+
+    public static final int PAYLOAD_SIZE = 256;
+
+    private CryptoLoadTest() {
+    }
+
+    /**
+     * @param port                  port of the server on the loopback address.
+     * @param connections           concurrent connections.
+     * @param requestsPerConnection requests sent by every connection.
+     * @param operation             operation of all the requests, {@link CryptoService.Operation#ENCRYPT},
+     *                              {@link CryptoService.Operation#SIGN} or {@link CryptoService.Operation#HASH}.
+     * @return the results.
+     */
+    public static Result run(final int port, final int connections, final int requestsPerConnection,
+                             final CryptoService.Operation operation) {
+        final var request = operation + " " + Base64Codec.STANDARD.encode(NonceGenerator.random(PAYLOAD_SIZE));
+        final var errors = new LongAdder();
+        final var futures = new ArrayList<CompletableFuture<long[]>>(connections);
+        final var start = System.nanoTime();
+        final var executor = TaskExecutors.newThreadPerTaskExecutor("crypto-load-test");
+        try {
+            for (int i = 0; i < connections; i++) {
+                futures.add(CompletableFuture.supplyAsync(
+                    () -> connection(port, request, requestsPerConnection, errors), executor));
+            }
+            final var latencies = futures.stream()
+                .map(CompletableFuture::join)
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+            final var elapsed = System.nanoTime() - start;
+            return new Result(latencies.length, errors.sum(), elapsed, percentile(latencies, 0.5),
+                percentile(latencies, 0.99), latencies.length == 0 ? 0 : latencies[latencies.length - 1]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long[] connection(final int port, final String request, final int requests,
+                                     final LongAdder errors) {
+        final var latencies = new long[requests];
+        var completed = 0;
+        try (var socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             var in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             var out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(),
+                 StandardCharsets.US_ASCII))) {
+            for (; completed < requests; completed++) {
+                final var start = System.nanoTime();
+                out.write(request);
+                out.write('\n');
+                out.flush();
+                final var response = in.readLine();
+                latencies[completed] = System.nanoTime() - start;
+                if (response == null || !response.startsWith("OK ")) {
+                    errors.increment();
+                }
+            }
+        } catch (IOException e) {
+            errors.add(requests - completed);
+        }
+        return Arrays.copyOf(latencies, completed);
+    }
+
+    private static long percentile(final long[] sorted, final double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+
+    /**
+     * Results of the load test.
+     *
+     * @param requests     responses received.
+     * @param errors       requests failed or not sent.
+     * @param elapsedNanos duration of the whole test.
+     * @param p50Nanos     median latency.
+     * @param p99Nanos     99th percentile latency.
+     * @param maximumNanos maximum latency.
+     */
+    public record Result(long requests, long errors, long elapsedNanos, long p50Nanos, long p99Nanos,
+                         long maximumNanos) {
+
+        public double requestsPerSecond() {
+            return elapsedNanos == 0 ? 0 : requests * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests, %d errors, %.0f requests/s, p50 %.2f ms, p99 %.2f ms, max %.2f ms",
+                requests, errors, requestsPerSecond(), p50Nanos / 1e6, p99Nanos / 1e6, maximumNanos / 1e6);
+        }
+    }
+}
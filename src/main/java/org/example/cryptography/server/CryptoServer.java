@@ -0,0 +1,169 @@
+package org.example.cryptography.server;
+
+import org.example.cryptography.concurrent.TaskExecutors;
+import org.example.cryptography.encoding.Base64Codec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Line-based TCP front end of the {@link CryptoService}, listening on the loopback address. Every connection is
+ * served by its own (virtual, when available) thread, and its requests are answered in order:
+ * <pre>
+ * request:  OPERATION base64(data) [base64(signature)]
+ * response: OK base64(result) | ERROR message
+ * </pre>
+ * A request longer than {@link #MAX_REQUEST_SIZE} is answered with {@code ERROR Request too large} and the
+ * connection is closed, so a client cannot make the server buffer an endless line.
+ */
+public final class CryptoServer implements AutoCloseable {
+
+    /**
+     * Maximum characters of a request line, about 768 KiB of data once decoded.
+     */
+    public static final int MAX_REQUEST_SIZE = 1 << 20;
+
+    private final CryptoService service;
+
+    private final ServerSocket serverSocket;
+
+    private final ExecutorService executor = TaskExecutors.newThreadPerTaskExecutor("crypto-connection");
+
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param service
+     * @param port    0 for any free port.
+     * @throws IOException if the port cannot be bound.
+     */
+    public CryptoServer(final CryptoService service, final int port) throws IOException {
+        this.service = service;
+        this.serverSocket = new ServerSocket(port, 1024, InetAddress.getLoopbackAddress());
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Start accepting connections in the background.
+     */
+    public void start() {
+        executor.execute(() -> {
+            while (!serverSocket.isClosed()) {
+                try {
+                    final var socket = serverSocket.accept();
+                    connections.add(socket);
+                    executor.execute(() -> serve(socket));
+                } catch (IOException e) {
+                    if (!serverSocket.isClosed()) {
+                        System.err.printf("Failed to accept a connection: %s\n", e.getMessage());
+                    }
+                }
+            }
+        });
+    }
+
+    private void serve(final Socket socket) {
+        try (socket;
+             var in = new BufferedInputStream(socket.getInputStream());
+             var out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(),
+                 StandardCharsets.US_ASCII))) {
+            try {
+                String line;
+                while ((line = readLine(in)) != null) {
+                    out.write(handle(line));
+                    out.write('\n');
+                    // Clients may pipeline requests, only flush when there are no more to answer
+                    if (in.available() == 0) {
+                        out.flush();
+                    }
+                }
+            } catch (RequestTooLargeException e) {
+                out.write("ERROR Request too large\n");
+                out.flush();
+                socket.shutdownOutput();
+            }
+        } catch (SocketException e) {
+            // Connection closed by the client or by the server shutdown
+        } catch (IOException e) {
+            System.err.printf("Failed to serve a connection: %s\n", e.getMessage());
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    /**
+     * @param in
+     * @return the next line without its terminator, {@code null} at the end of the stream.
+     * @throws RequestTooLargeException if the line is longer than {@link #MAX_REQUEST_SIZE}.
+     * @throws IOException
+     */
+    private static String readLine(final InputStream in) throws IOException {
+        final var line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\n') {
+                final var length = line.length();
+                return length > 0 && line.charAt(length - 1) == '\r' ? line.substring(0, length - 1)
+                    : line.toString();
+            }
+            if (line.length() == MAX_REQUEST_SIZE) {
+                throw new RequestTooLargeException();
+            }
+            line.append((char) c);
+        }
+        return line.isEmpty() ? null : line.toString();
+    }
+
+    /**
+     * The request line exceeds {@link #MAX_REQUEST_SIZE}.
+     */
+    private static final class RequestTooLargeException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    private String handle(final String line) {
+        try {
+            final var fields = line.split(" ", -1);
+            if (fields.length < 2 || fields.length > 3) {
+                return "ERROR Invalid request";
+            }
+            final var operation = CryptoService.Operation.valueOf(fields[0]);
+            final var data = Base64Codec.STANDARD.decode(fields[1]);
+            final var signature = fields.length == 3 ? Base64Codec.STANDARD.decode(fields[2]) : null;
+            final var result = service.execute(new CryptoService.Request(operation, data, signature));
+            return "OK " + Base64Codec.STANDARD.encode(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "ERROR Interrupted";
+        } catch (Exception e) {
+            return "ERROR " + e.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * Stop accepting connections and close the open ones.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        // Blocking socket reads are not interrupted, closing the sockets releases their threads
+        for (final var socket : connections) {
+            socket.close();
+        }
+        executor.shutdownNow();
+    }
+}
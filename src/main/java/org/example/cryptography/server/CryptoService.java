@@ -0,0 +1,223 @@
+package org.example.cryptography.server;
+
+import org.example.cryptography.asymmetric.RSAKeyCache;
+import org.example.cryptography.asymmetric.RSASignature;
+import org.example.cryptography.concurrent.TaskExecutors;
+import org.example.cryptography.container.ContainerAlgorithm;
+import org.example.cryptography.container.ContainerCipher;
+import org.example.cryptography.hashing.PasswordHash;
+import org.example.cryptography.hashing.PasswordHasher;
+import org.example.cryptography.symmetric.AESCipher;
+
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Encrypt, decrypt, sign, verify and hash requests, each one waiting on its own (virtual, when available) thread.
+ * The cryptography itself runs on a fixed pool of platform workers: the ciphers, MACs and signatures are cached
+ * per thread, a new thread per request would start with empty caches and pay for the instances every time.
+ * Symmetric operations run unbounded since they are cheap, while RSA signatures and PBKDF2 hashing share a single
+ * budget of permits below the number of cores, so a burst of them cannot take all the cores from the rest of the
+ * requests.
+ * The keys are generated when the service starts: a data encrypted with one instance can only be decrypted by it.
+ */
+public final class CryptoService implements AutoCloseable {
+
+    public static final String KEY_ID = "aes";
+
+    /**
+     * Half of the cores, so the symmetric requests always have cores left.
+     */
+    public static final int DEFAULT_PERMITS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    private static final byte[] ENCODED_KEY_ID = KEY_ID.getBytes(StandardCharsets.UTF_8);
+
+    private final SecretKey secretKey;
+
+    private final KeyPair keyPair;
+
+    private final PasswordHasher passwordHasher;
+
+    private final Semaphore permits;
+
+    private final ExecutorService executor = TaskExecutors.newThreadPerTaskExecutor("crypto-request");
+
+    private final ExecutorService workers;
+
+    public CryptoService() throws GeneralSecurityException {
+        this(DEFAULT_PERMITS, PasswordHash.Parameters.DEFAULT);
+    }
+
+    /**
+     * @param permits            concurrent RSA signatures, verifications and password hashes, together. Keep it below
+     *                           the number of cores, otherwise a burst of them starves the symmetric requests.
+     * @param passwordParameters used to hash the passwords.
+     * @throws GeneralSecurityException
+     */
+    public CryptoService(final int permits, final PasswordHash.Parameters passwordParameters)
+        throws GeneralSecurityException {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("Permits must be greater than zero");
+        }
+        final var generator = KeyPairGenerator.getInstance(RSAKeyCache.RSA);
+        generator.initialize(2048);
+        this.keyPair = generator.generateKeyPair();
+        this.secretKey = AESCipher.generateKey();
+        this.passwordHasher = new PasswordHasher(passwordParameters);
+        this.permits = new Semaphore(permits);
+        // The RSA and PBKDF2 requests never take more workers than the permits, one worker per core is left
+        this.workers = TaskExecutors.newWorkerPool("crypto-worker", permits
+            + Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Operations of the service.
+     */
+    public enum Operation {
+
+        /**
+         * Encrypt the data with AES/GCM into a binary container.
+         */
+        ENCRYPT,
+
+        /**
+         * Decrypt a binary container.
+         */
+        DECRYPT,
+
+        /**
+         * Sign the data with SHA256withRSA.
+         */
+        SIGN,
+
+        /**
+         * Verify the signature of the data, the result is a single byte: 1 if valid, 0 otherwise.
+         */
+        VERIFY,
+
+        /**
+         * Hash the password (UTF-8) with PBKDF2, the result is the encoded password hash.
+         */
+        HASH
+    }
+
+    /**
+     * @param operation
+     * @param data      data, container or password.
+     * @param signature signature to verify, only used by {@link Operation#VERIFY}.
+     */
+    public record Request(Operation operation, byte[] data, byte[] signature) {
+
+        public Request(final Operation operation, final byte[] data) {
+            this(operation, data, null);
+        }
+    }
+
+    /**
+     * @param request
+     * @return the future result, awaited on a new thread.
+     */
+    public CompletableFuture<byte[]> submit(final Request request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return execute(request);
+            } catch (GeneralSecurityException e) {
+                throw new CompletionException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Execute the request on the workers, the calling thread blocks until it is done, and before while the permits
+     * of RSA and PBKDF2 are exhausted.
+     *
+     * @param request
+     * @return the result.
+     * @throws GeneralSecurityException if the request cannot be processed.
+     * @throws InterruptedException     if interrupted while waiting for a permit or for the result.
+     */
+    public byte[] execute(final Request request) throws GeneralSecurityException, InterruptedException {
+        final var bounded = switch (request.operation()) {
+            case SIGN, VERIFY, HASH -> true;
+            case ENCRYPT, DECRYPT -> false;
+        };
+        // The permits are taken by the waiting thread, so queued RSA and PBKDF2 requests do not hold workers
+        if (bounded) {
+            permits.acquire();
+        }
+        try {
+            final var future = workers.submit(() -> compute(request));
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                throw e;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof GeneralSecurityException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        } finally {
+            if (bounded) {
+                permits.release();
+            }
+        }
+    }
+
+    private byte[] compute(final Request request) throws GeneralSecurityException {
+        return switch (request.operation()) {
+            case ENCRYPT -> ContainerCipher.encrypt(ContainerAlgorithm.AES_GCM, ENCODED_KEY_ID, secretKey,
+                request.data());
+            case DECRYPT -> ContainerCipher.decrypt(request.data(), (algorithm, keyId) -> {
+                if (algorithm != ContainerAlgorithm.AES_GCM || !keyId.equals(ByteBuffer.wrap(ENCODED_KEY_ID))) {
+                    throw new GeneralSecurityException("Unknown key of the container");
+                }
+                return secretKey;
+            });
+            case SIGN -> RSASignature.sign(request.data(), keyPair.getPrivate());
+            case VERIFY -> {
+                if (request.signature() == null) {
+                    throw new IllegalArgumentException("Signature is required to verify");
+                }
+                final var valid = RSASignature.validate(request.data(), keyPair.getPublic(), request.signature());
+                yield new byte[]{(byte) (valid ? 1 : 0)};
+            }
+            case HASH -> {
+                final var decoded = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(request.data()));
+                final var password = Arrays.copyOf(decoded.array(), decoded.limit());
+                Arrays.fill(decoded.array(), '\0');
+                try {
+                    yield passwordHasher.hash(password).getBytes(StandardCharsets.UTF_8);
+                } finally {
+                    Arrays.fill(password, '\0');
+                }
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.concurrent.ParallelTasks;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * AES/CTR/NoPadding with random access. The keystream block of any position is the encryption of the initial
+ * counter block plus the block index, so the cipher can be initialized at any offset: a byte range in the middle
+ * of a large encrypted object is decrypted without processing the prefix (i.e. HTTP range reads), and disjoint
+ * ranges are processed concurrently on a {@link ForkJoinPool}.
+ * CTR is not authenticated, the data must be authenticated separately (i.e. with an HMAC).
+ */
+public final class AESCTR {
+
+    public static final String ENCRYPT_ALGORITHM = AESMode.CTR.transformation();
+
+    public static final int BLOCK_SIZE = 16;
+
+    /**
+     * Chunks must be large enough to amortize the initialization of the cipher and the task scheduling.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private final SecretKey secretKey;
+
+    private final byte[] iv;
+
+    private final int chunkSize;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * @param secretKey
+     * @param iv        initial counter block of {@value #BLOCK_SIZE} bytes.
+     */
+    public AESCTR(final SecretKey secretKey, final byte[] iv) {
+        this(secretKey, iv, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param secretKey
+     * @param iv        initial counter block of {@value #BLOCK_SIZE} bytes.
+     * @param chunkSize bytes processed by each task, a multiple of {@value #BLOCK_SIZE}.
+     * @param pool      pool used to process the chunks.
+     */
+    public AESCTR(final SecretKey secretKey, final byte[] iv, final int chunkSize, final ForkJoinPool pool) {
+        if (iv.length != BLOCK_SIZE) {
+            throw new IllegalArgumentException("Initial counter block must be " + BLOCK_SIZE + " bytes");
+        }
+        if (chunkSize <= 0 || chunkSize % BLOCK_SIZE != 0) {
+            throw new IllegalArgumentException("Chunk size must be a positive multiple of " + BLOCK_SIZE);
+        }
+        this.secretKey = secretKey;
+        this.iv = iv.clone();
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    /**
+     * @param iv    initial counter block.
+     * @param block index of the block.
+     * @return the counter block of the given block: the initial counter block plus the index, as a 128 bits
+     * big-endian number (the same increment of the cipher).
+     */
+    public static byte[] counterBlock(final byte[] iv, final long block) {
+        final var counter = iv.clone();
+        var carry = block;
+        for (int i = counter.length - 1; i >= 0 && carry != 0; i--) {
+            final var sum = (counter[i] & 0xFF) + (carry & 0xFF);
+            counter[i] = (byte) sum;
+            carry = (carry >>> 8) + (sum >>> 8);
+        }
+        return counter;
+    }
+
+    /**
+     * Encrypt or decrypt (it is the same operation) the remaining input as the bytes of the stream at the
+     * given position.
+     *
+     * @param position offset of the first byte of the input in the whole encrypted object.
+     * @param input
+     * @param output   it must have room for the remaining input.
+     * @return number of bytes written.
+     * @throws GeneralSecurityException
+     */
+    public int update(final long position, final ByteBuffer input, final ByteBuffer output)
+        throws GeneralSecurityException {
+        return init(position).update(input, output);
+    }
+
+    /**
+     * @param data whole plain data.
+     * @return the encrypted data, processed in parallel chunks.
+     * @throws GeneralSecurityException
+     */
+    public byte[] encrypt(final byte[] data) throws GeneralSecurityException {
+        return update(0, data);
+    }
+
+    /**
+     * @param data whole encrypted data.
+     * @return the decrypted data, processed in parallel chunks.
+     * @throws GeneralSecurityException
+     */
+    public byte[] decrypt(final byte[] data) throws GeneralSecurityException {
+        return update(0, data);
+    }
+
+    /**
+     * Decrypt a range of the encrypted object.
+     *
+     * @param position offset of the range in the whole encrypted object.
+     * @param data     encrypted bytes of the range.
+     * @return the decrypted range.
+     * @throws GeneralSecurityException
+     */
+    public byte[] decrypt(final long position, final byte[] data) throws GeneralSecurityException {
+        return update(position, data);
+    }
+
+    /**
+     * Fill the output with the keystream from the given position, in parallel chunks.
+     *
+     * @param position offset of the first keystream byte.
+     * @param output
+     * @throws GeneralSecurityException
+     */
+    public void keystream(final long position, final byte[] output) throws GeneralSecurityException {
+        // Keystream is the encryption of zeros
+        Arrays.fill(output, (byte) 0);
+        update(position, output, output);
+    }
+
+    private byte[] update(final long position, final byte[] data) throws GeneralSecurityException {
+        final var output = new byte[data.length];
+        update(position, data, output);
+        return output;
+    }
+
+    private void update(final long position, final byte[] data, final byte[] output) throws GeneralSecurityException {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position must not be negative");
+        }
+        // The first chunk ends at a chunk boundary of the object, so the other chunks start at a block boundary
+        final var first = (int) Math.min(data.length, chunkSize - position % chunkSize);
+        final var chunks = data.length == first ? 1 : 1 + (data.length - first + chunkSize - 1) / chunkSize;
+        ParallelTasks.forEach(pool, chunks, index -> {
+            final var from = index == 0 ? 0 : first + (index - 1) * chunkSize;
+            final var length = index == 0 ? first : Math.min(chunkSize, data.length - from);
+            init(position + from).update(ByteBuffer.wrap(data, from, length), ByteBuffer.wrap(output, from, length));
+        });
+    }
+
+    /**
+     * Get the cipher of the current thread positioned at the given offset of the stream.
+     */
+    private Cipher init(final long position) throws GeneralSecurityException {
+        final var cipher = CipherPool.get(ENCRYPT_ALGORITHM);
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(counterBlock(iv, position / BLOCK_SIZE)));
+        final var skip = (int) (position % BLOCK_SIZE);
+        if (skip > 0) {
+            // Discard the keystream of the block before the position
+            cipher.update(new byte[skip]);
+        }
+        return cipher;
+    }
+}
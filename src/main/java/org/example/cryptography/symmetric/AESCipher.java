@@ -0,0 +1,129 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.random.NonceGenerator;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+
+/**
+ * Encrypt and decrypt messages with AES using the {@link CipherPool}, so the {@link Cipher} is only
+ * created once per thread and re-initialized with the key and iv of each message.
+ */
+public final class AESCipher {
+
+    /**
+     * GCM is defined for the tag sizes 128, 120, 112, 104, or 96, 64 and 32.
+     * A tag size of the full 128 bits should be preferred.
+     */
+    public static final int AUTHENTICATION_TAG_SIZE = 128;
+
+    /**
+     * GCM is optimized for 12 bytes (96 bits) nonces, other sizes are hashed into the initial counter.
+     */
+    public static final int GCM_NONCE_SIZE = 12;
+
+    public static final String AES = "AES";
+
+    /**
+     * For AES, the legal key sizes are 128, 192, and 256 bits.
+     */
+    public static final int AES_KEY_SIZE = 256;
+
+    private AESCipher() {
+    }
+
+    /**
+     * Generate a new AES key using the (non-blocking) DRBG of the current thread.
+     *
+     * @return the new key.
+     * @throws GeneralSecurityException
+     */
+    public static SecretKey generateKey() throws GeneralSecurityException {
+        final var keyGenerator = KeyGenerator.getInstance(AES);
+        keyGenerator.init(AES_KEY_SIZE, NonceGenerator.secureRandom());
+        return keyGenerator.generateKey();
+    }
+
+    /**
+     * @param mode
+     * @param data
+     * @param secretKey
+     * @param iv        initialization vector, it is ignored for ECB.
+     * @return the encrypted data (GCM appends the authentication tag).
+     * @throws GeneralSecurityException
+     */
+    public static byte[] encrypt(final AESMode mode, final byte[] data, final SecretKey secretKey, final byte[] iv)
+        throws GeneralSecurityException {
+        return init(mode, Cipher.ENCRYPT_MODE, secretKey, iv).doFinal(data);
+    }
+
+    /**
+     * @param mode
+     * @param data
+     * @param secretKey
+     * @param iv        initialization vector, it is ignored for ECB.
+     * @return the decrypted data.
+     * @throws GeneralSecurityException
+     */
+    public static byte[] decrypt(final AESMode mode, final byte[] data, final SecretKey secretKey, final byte[] iv)
+        throws GeneralSecurityException {
+        return init(mode, Cipher.DECRYPT_MODE, secretKey, iv).doFinal(data);
+    }
+
+    /**
+     * Encrypt the remaining bytes of the input into the output, heap or direct, without allocating the result.
+     *
+     * @param mode
+     * @param secretKey
+     * @param iv        initialization vector, it is ignored for ECB.
+     * @param input     remaining bytes are consumed.
+     * @param output    the encrypted data is written at the current position.
+     * @return the number of bytes written.
+     * @throws GeneralSecurityException
+     */
+    public static int encrypt(final AESMode mode, final SecretKey secretKey, final byte[] iv,
+                              final ByteBuffer input, final ByteBuffer output) throws GeneralSecurityException {
+        return init(mode, Cipher.ENCRYPT_MODE, secretKey, iv).doFinal(input, output);
+    }
+
+    /**
+     * Decrypt the remaining bytes of the input into the output, heap or direct, without allocating the result.
+     *
+     * @param mode
+     * @param secretKey
+     * @param iv        initialization vector, it is ignored for ECB.
+     * @param input     remaining bytes are consumed.
+     * @param output    the decrypted data is written at the current position.
+     * @return the number of bytes written.
+     * @throws GeneralSecurityException
+     */
+    public static int decrypt(final AESMode mode, final SecretKey secretKey, final byte[] iv,
+                              final ByteBuffer input, final ByteBuffer output) throws GeneralSecurityException {
+        return init(mode, Cipher.DECRYPT_MODE, secretKey, iv).doFinal(input, output);
+    }
+
+    /**
+     * Get the pooled cipher for the current thread and initialize it for a new message.
+     *
+     * @param mode
+     * @param opmode    {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param secretKey
+     * @param iv
+     * @return the initialized cipher.
+     * @throws GeneralSecurityException
+     */
+    static Cipher init(final AESMode mode, final int opmode, final SecretKey secretKey, final byte[] iv)
+        throws GeneralSecurityException {
+        final var cipher = CipherPool.get(mode.transformation());
+        final var spec = mode.parameterSpec(iv);
+        if (spec == null) {
+            cipher.init(opmode, secretKey);
+        } else {
+            cipher.init(opmode, secretKey, spec);
+        }
+        return cipher;
+    }
+}
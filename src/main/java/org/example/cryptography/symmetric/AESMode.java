@@ -0,0 +1,62 @@
+package org.example.cryptography.symmetric;
+
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import java.security.spec.AlgorithmParameterSpec;
+
+/**
+ * AES modes of operation supported by {@link AESCipher}. None of them use padding, so ECB and CBC
+ * input length must be multiple of 16 bytes.
+ */
+public enum AESMode {
+
+    /**
+     * AES + Electronic Code Book (ECB) + NoPadding. Each block is encrypted independently, it does not use
+     * an initialization vector and leaks patterns of the plaintext.
+     */
+    ECB("AES/ECB/NoPadding"),
+
+    /**
+     * AES + Cipher Block Chaining (CBC) + NoPadding. Each block is XOR with the previous encrypted block,
+     * the first one uses the initialization vector.
+     */
+    CBC("AES/CBC/NoPadding"),
+
+    /**
+     * AES + Galois Counter Mode (GCM) + NoPadding. GCM = CTR + Authentication, the authentication tag is
+     * appended to the encrypted data.
+     */
+    GCM("AES/GCM/NoPadding"),
+
+    /**
+     * AES + Counter (CTR) + NoPadding. The initialization vector is the first counter block, the encrypted
+     * counter blocks are a keystream XOR with the data, so any block can be processed independently.
+     * See {@link AESCTR} for random access.
+     */
+    CTR("AES/CTR/NoPadding");
+
+    private final String transformation;
+
+    AESMode(final String transformation) {
+        this.transformation = transformation;
+    }
+
+    /**
+     * @return the transformation name used to get the {@link javax.crypto.Cipher} instance.
+     */
+    public String transformation() {
+        return transformation;
+    }
+
+    /**
+     * @param iv initialization vector, it is ignored for ECB.
+     * @return the parameters needed to initialize the cipher, or {@code null} if the mode has no parameters.
+     */
+    public AlgorithmParameterSpec parameterSpec(final byte[] iv) {
+        return switch (this) {
+            case ECB -> null;
+            case CBC, CTR -> new IvParameterSpec(iv);
+            case GCM -> new GCMParameterSpec(AESCipher.AUTHENTICATION_TAG_SIZE, iv);
+        };
+    }
+}
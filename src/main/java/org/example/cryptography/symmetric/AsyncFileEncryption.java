@@ -0,0 +1,289 @@
+package org.example.cryptography.symmetric;
+
+import javax.crypto.SecretKey;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.example.cryptography.symmetric.StreamingAESGCM.HEADER_SIZE;
+import static org.example.cryptography.symmetric.StreamingAESGCM.TAG_SIZE;
+
+/**
+ * Encrypt and decrypt files with segmented AES/GCM using {@link AsynchronousFileChannel}, so reading, encrypting
+ * and writing overlap instead of alternating as with blocking streams.
+ * The segments go through a bounded ring of direct buffers: each slot reads a segment, encrypts it and writes it,
+ * then moves on to the segment one ring ahead, so up to ring size segments are in flight at once. The segments are
+ * independent, their position in both files only depends on the index.
+ * The encrypted file uses the same framing as {@link StreamingAESGCM}.
+ */
+public final class AsyncFileEncryption {
+
+    public static final int DEFAULT_RING_SIZE = 8;
+
+    private final StreamingAESGCM streamingAESGCM;
+
+    private final int ringSize;
+
+    private final ExecutorService executor;
+
+    public AsyncFileEncryption(final SecretKey secretKey) {
+        this(secretKey, StreamingAESGCM.DEFAULT_SEGMENT_SIZE, DEFAULT_RING_SIZE, null);
+    }
+
+    /**
+     * @param secretKey
+     * @param segmentSize plaintext bytes per segment.
+     * @param ringSize    segments in flight, each one with its own pair of direct buffers.
+     * @param executor    runs the I/O completions and the encryption, {@code null} for the default pool of the
+     *                    channels.
+     */
+    public AsyncFileEncryption(final SecretKey secretKey, final int segmentSize, final int ringSize,
+                               final ExecutorService executor) {
+        if (ringSize <= 0) {
+            throw new IllegalArgumentException("Ring size must be greater than zero");
+        }
+        this.streamingAESGCM = new StreamingAESGCM(secretKey, segmentSize);
+        this.ringSize = ringSize;
+        this.executor = executor;
+    }
+
+    /**
+     * @param source plain file.
+     * @param target encrypted file, it is replaced if exists.
+     * @return the future number of plaintext bytes encrypted.
+     * @throws IOException if the files cannot be opened.
+     */
+    public CompletableFuture<Long> encrypt(final Path source, final Path target) throws IOException {
+        final var in = AsynchronousFileChannel.open(source, Set.of(StandardOpenOption.READ), executor);
+        final AsynchronousFileChannel out;
+        try {
+            out = open(target);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+        final var header = streamingAESGCM.newHeader();
+        return writeFully(out, ByteBuffer.wrap(header.encoded()), 0).thenCompose(written -> {
+            try {
+                final var transfer = new Transfer(in, out, header, in.size(), true);
+                transfer.start();
+                return transfer.result;
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }).whenComplete((size, e) -> close(in, out));
+    }
+
+    /**
+     * Authenticate and decrypt the file. The target is deleted if any of the segments has been tampered, or if the
+     * segment size of the header is not the configured one.
+     *
+     * @param source encrypted file.
+     * @param target plain file, it is replaced if exists.
+     * @return the future number of plaintext bytes decrypted.
+     * @throws IOException if the files cannot be opened.
+     */
+    public CompletableFuture<Long> decrypt(final Path source, final Path target) throws IOException {
+        final var in = AsynchronousFileChannel.open(source, Set.of(StandardOpenOption.READ), executor);
+        final AsynchronousFileChannel out;
+        try {
+            out = open(target);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+        final var result = readFully(in, ByteBuffer.allocate(HEADER_SIZE), 0).thenCompose(encoded -> {
+            try {
+                // The segment size sizes the ring of direct buffers, it must be the configured one
+                final var header = streamingAESGCM.readHeader(encoded.flip());
+                final var size = StreamingAESGCM.plaintextSize(in.size(), header.segmentSize());
+                final var transfer = new Transfer(in, out, header, size, false);
+                transfer.start();
+                return transfer.result;
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+        return result.whenComplete((size, e) -> {
+            close(in, out);
+            if (e != null) {
+                // Never leave unauthenticated data in the target file
+                try {
+                    Files.deleteIfExists(target);
+                } catch (IOException ignored) {
+                    // The original failure is reported
+                }
+            }
+        });
+    }
+
+    private AsynchronousFileChannel open(final Path target) throws IOException {
+        return AsynchronousFileChannel.open(target, Set.of(StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), executor);
+    }
+
+    /**
+     * State of one file being encrypted or decrypted.
+     */
+    private final class Transfer {
+
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+        private final AsynchronousFileChannel in;
+
+        private final AsynchronousFileChannel out;
+
+        private final StreamingAESGCM.Header header;
+
+        private final long size;
+
+        private final boolean encrypt;
+
+        private final long segments;
+
+        private final AtomicInteger activeSlots = new AtomicInteger();
+
+        private Transfer(final AsynchronousFileChannel in, final AsynchronousFileChannel out,
+                         final StreamingAESGCM.Header header, final long size, final boolean encrypt) {
+            this.in = in;
+            this.out = out;
+            this.header = header;
+            this.size = size;
+            this.encrypt = encrypt;
+            this.segments = StreamingAESGCM.segmentCount(size, header.segmentSize());
+        }
+
+        private void start() {
+            final var bufferSize = header.segmentSize() + TAG_SIZE;
+            // Small files do not need the whole ring
+            final var slots = (int) Math.min(ringSize, segments);
+            activeSlots.set(slots);
+            for (int slot = 0; slot < slots; slot++) {
+                next(ByteBuffer.allocateDirect(bufferSize), ByteBuffer.allocateDirect(bufferSize), slot);
+            }
+        }
+
+        /**
+         * Read, process and write the segment, then continue with the segment one ring ahead on the same buffers.
+         */
+        private void next(final ByteBuffer input, final ByteBuffer output, final long index) {
+            if (result.isDone()) {
+                return;
+            }
+            if (index >= segments) {
+                if (activeSlots.decrementAndGet() == 0) {
+                    result.complete(size);
+                }
+                return;
+            }
+            final var segmentSize = header.segmentSize();
+            final var last = index == segments - 1;
+            final var length = (int) Math.min(segmentSize, size - index * segmentSize);
+            final var plainOffset = index * segmentSize;
+            final var encryptedOffset = StreamingAESGCM.segmentOffset(index, segmentSize);
+
+            input.clear().limit(encrypt ? length : length + TAG_SIZE);
+            readFully(in, input, encrypt ? plainOffset : encryptedOffset).thenCompose(read -> {
+                output.clear();
+                try {
+                    if (encrypt) {
+                        streamingAESGCM.encryptSegment(header, index, last, input.flip(), output);
+                    } else {
+                        streamingAESGCM.decryptSegment(header, index, last, input.flip(), output);
+                    }
+                } catch (GeneralSecurityException e) {
+                    throw new CompletionException(e);
+                }
+                return writeFully(out, output.flip(), encrypt ? encryptedOffset : plainOffset);
+            }).whenComplete((written, e) -> {
+                if (e == null) {
+                    next(input, output, index + ringSize);
+                } else {
+                    fail(e);
+                }
+            });
+        }
+
+        private void fail(final Throwable e) {
+            result.completeExceptionally(e instanceof CompletionException && e.getCause() != null
+                ? e.getCause() : e);
+        }
+    }
+
+    /**
+     * @param channel
+     * @param buffer   filled up to its limit.
+     * @param position
+     * @return the future buffer, it fails with {@link EOFException} if the file ends before.
+     */
+    private static CompletableFuture<ByteBuffer> readFully(final AsynchronousFileChannel channel,
+                                                           final ByteBuffer buffer, final long position) {
+        final var future = new CompletableFuture<ByteBuffer>();
+        final var start = buffer.position();
+        channel.read(buffer, position, null, new CompletionHandler<Integer, Void>() {
+            @Override
+            public void completed(final Integer read, final Void attachment) {
+                if (!buffer.hasRemaining()) {
+                    future.complete(buffer);
+                } else if (read < 0) {
+                    future.completeExceptionally(new EOFException("Unexpected end of file at " + position));
+                } else {
+                    channel.read(buffer, position + buffer.position() - start, null, this);
+                }
+            }
+
+            @Override
+            public void failed(final Throwable e, final Void attachment) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * @param channel
+     * @param buffer   remaining bytes are written.
+     * @param position
+     * @return the future buffer once it has been written.
+     */
+    private static CompletableFuture<ByteBuffer> writeFully(final AsynchronousFileChannel channel,
+                                                            final ByteBuffer buffer, final long position) {
+        final var future = new CompletableFuture<ByteBuffer>();
+        final var start = buffer.position();
+        channel.write(buffer, position, null, new CompletionHandler<Integer, Void>() {
+            @Override
+            public void completed(final Integer written, final Void attachment) {
+                if (buffer.hasRemaining()) {
+                    channel.write(buffer, position + buffer.position() - start, null, this);
+                } else {
+                    future.complete(buffer);
+                }
+            }
+
+            @Override
+            public void failed(final Throwable e, final Void attachment) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private static void close(final AsynchronousFileChannel in, final AsynchronousFileChannel out) {
+        try (in; out) {
+            // Pending operations of the other slots fail once a slot has failed
+        } catch (IOException ignored) {
+            // The result is already known
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.cryptography.symmetric;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Thread-confined pool of {@link Cipher} instances keyed by (transformation, provider).
+ * {@link Cipher#getInstance(String)} does a provider lookup and allocates a new object on every call, so
+ * instances are created once per thread and reused afterward.
+ * The returned cipher is only valid on the calling thread and must be initialized (init) before every
+ * message. It must not be kept across calls that may also use the pool from the same thread.
+ */
+public final class CipherPool {
+
+    private static final ThreadLocal<Map<Key, Cipher>> CIPHERS = ThreadLocal.withInitial(HashMap::new);
+
+    private CipherPool() {
+    }
+
+    /**
+     * @param transformation i.e. "AES/GCM/NoPadding"
+     * @return the cipher for the current thread using the default provider.
+     * @throws GeneralSecurityException
+     */
+    public static Cipher get(final String transformation) throws GeneralSecurityException {
+        return get(transformation, null);
+    }
+
+    /**
+     * @param transformation i.e. "RSA/ECB/OAEPWithSHA-256AndMGF1Padding"
+     * @param provider       provider name, or {@code null} to use the default provider.
+     * @return the cipher for the current thread.
+     * @throws GeneralSecurityException
+     */
+    public static Cipher get(final String transformation, final String provider) throws GeneralSecurityException {
+        final var ciphers = CIPHERS.get();
+        final var key = new Key(transformation, provider);
+        var cipher = ciphers.get(key);
+        if (cipher == null) {
+            cipher = provider == null
+                ? Cipher.getInstance(transformation)
+                : Cipher.getInstance(transformation, provider);
+            ciphers.put(key, cipher);
+        }
+        return cipher;
+    }
+
+    private record Key(String transformation, String provider) {
+    }
+}
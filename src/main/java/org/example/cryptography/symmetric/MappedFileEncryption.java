@@ -0,0 +1,134 @@
+package org.example.cryptography.symmetric;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+
+import static org.example.cryptography.symmetric.StreamingAESGCM.HEADER_SIZE;
+import static org.example.cryptography.symmetric.StreamingAESGCM.TAG_SIZE;
+
+/**
+ * Encrypt and decrypt files with segmented AES/GCM working directly on memory-mapped regions of the source and
+ * target files, so the data is never copied into byte arrays in the heap.
+ * Files are mapped in windows of whole segments, since a single mapping is limited to 2GB.
+ * The encrypted file uses the same framing as {@link StreamingAESGCM}.
+ */
+public final class MappedFileEncryption {
+
+    public static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final StreamingAESGCM streamingAESGCM;
+
+    private final long windowSize;
+
+    public MappedFileEncryption(final SecretKey secretKey) {
+        this(secretKey, StreamingAESGCM.DEFAULT_SEGMENT_SIZE, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param secretKey
+     * @param segmentSize plaintext bytes per segment.
+     * @param windowSize  bytes mapped at once, it is rounded down to whole segments.
+     */
+    public MappedFileEncryption(final SecretKey secretKey, final int segmentSize, final long windowSize) {
+        this.streamingAESGCM = new StreamingAESGCM(secretKey, segmentSize);
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * @param source plain file.
+     * @param target encrypted file, it is replaced if exists.
+     * @throws IOException
+     * @throws GeneralSecurityException
+     */
+    public void encrypt(final Path source, final Path target) throws IOException, GeneralSecurityException {
+        try (var in = FileChannel.open(source, StandardOpenOption.READ);
+             var out = open(target)) {
+            final var segmentSize = streamingAESGCM.segmentSize();
+            final var header = streamingAESGCM.newHeader();
+            out.write(ByteBuffer.wrap(header.encoded()), 0);
+
+            final var size = in.size();
+            final var segments = StreamingAESGCM.segmentCount(size, segmentSize);
+            final var segmentsPerWindow = segmentsPerWindow(segmentSize);
+            for (long first = 0; first < segments; first += segmentsPerWindow) {
+                final var last = Math.min(first + segmentsPerWindow, segments);
+                final var from = first * segmentSize;
+                final var length = Math.min(last * segmentSize, size) - from;
+                final var input = in.map(FileChannel.MapMode.READ_ONLY, from, length);
+                final var output = out.map(FileChannel.MapMode.READ_WRITE,
+                    StreamingAESGCM.segmentOffset(first, segmentSize), length + (last - first) * TAG_SIZE);
+
+                for (long index = first; index < last; index++) {
+                    input.limit((int) Math.min((long) input.position() + segmentSize, length));
+                    output.limit(output.position() + input.remaining() + TAG_SIZE);
+                    streamingAESGCM.encryptSegment(header, index, index == segments - 1, input, output);
+                }
+            }
+        }
+    }
+
+    /**
+     * Authenticate and decrypt the file. The target is deleted if any of the segments has been tampered.
+     *
+     * @param source encrypted file.
+     * @param target plain file, it is replaced if exists.
+     * @throws IOException
+     * @throws GeneralSecurityException
+     * @throws IllegalArgumentException if the header is not valid or its segment size is not the configured one.
+     */
+    public void decrypt(final Path source, final Path target) throws IOException, GeneralSecurityException {
+        try (var in = FileChannel.open(source, StandardOpenOption.READ)) {
+            try (var out = open(target)) {
+                decrypt(in, out);
+            } catch (IOException | GeneralSecurityException | RuntimeException e) {
+                // Never leave unauthenticated data in the target file
+                Files.deleteIfExists(target);
+                throw e;
+            }
+        }
+    }
+
+    private void decrypt(final FileChannel in, final FileChannel out) throws IOException, GeneralSecurityException {
+        final var encoded = ByteBuffer.allocate(HEADER_SIZE);
+        if (in.read(encoded, 0) < HEADER_SIZE) {
+            throw new IllegalArgumentException("Truncated encrypted file header");
+        }
+        // The segment size of the header is not authenticated yet, it must be the configured one
+        final var header = streamingAESGCM.readHeader(encoded.flip());
+        final var segmentSize = header.segmentSize();
+
+        final var size = StreamingAESGCM.plaintextSize(in.size(), segmentSize);
+        final var segments = StreamingAESGCM.segmentCount(size, segmentSize);
+        final var segmentsPerWindow = segmentsPerWindow(segmentSize);
+        for (long first = 0; first < segments; first += segmentsPerWindow) {
+            final var last = Math.min(first + segmentsPerWindow, segments);
+            final var from = first * segmentSize;
+            final var length = Math.min(last * segmentSize, size) - from;
+            final var input = in.map(FileChannel.MapMode.READ_ONLY,
+                StreamingAESGCM.segmentOffset(first, segmentSize), length + (last - first) * TAG_SIZE);
+            final var output = out.map(FileChannel.MapMode.READ_WRITE, from, length);
+
+            for (long index = first; index < last; index++) {
+                input.limit((int) Math.min((long) input.position() + segmentSize + TAG_SIZE, input.capacity()));
+                output.limit(output.position() + input.remaining() - TAG_SIZE);
+                streamingAESGCM.decryptSegment(header, index, index == segments - 1, input, output);
+            }
+        }
+    }
+
+    private long segmentsPerWindow(final int segmentSize) {
+        // The encrypted window must also fit in a single mapping
+        return Math.max(1, Math.min(windowSize, Integer.MAX_VALUE) / ((long) segmentSize + TAG_SIZE));
+    }
+
+    private static FileChannel open(final Path target) throws IOException {
+        return FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+}
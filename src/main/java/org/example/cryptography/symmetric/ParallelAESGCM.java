@@ -0,0 +1,96 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.concurrent.ParallelTasks;
+
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.example.cryptography.symmetric.StreamingAESGCM.HEADER_SIZE;
+import static org.example.cryptography.symmetric.StreamingAESGCM.TAG_SIZE;
+
+/**
+ * Encrypt and decrypt large buffers with AES/GCM using all the cores available.
+ * The buffer is split in independent authenticated chunks, each one with its own nonce derived from the random
+ * nonce prefix and the chunk counter, and they are processed concurrently on a {@link ForkJoinPool}.
+ * The output uses the same framing as {@link StreamingAESGCM}, so both can decrypt the data of each other.
+ */
+public final class ParallelAESGCM {
+
+    /**
+     * Chunks must be large enough to amortize the initialization of the cipher and the task scheduling.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private final StreamingAESGCM streamingAESGCM;
+
+    private final ForkJoinPool pool;
+
+    public ParallelAESGCM(final SecretKey secretKey) {
+        this(secretKey, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param secretKey
+     * @param chunkSize plaintext bytes per chunk.
+     * @param pool      pool used to encrypt and decrypt the chunks.
+     */
+    public ParallelAESGCM(final SecretKey secretKey, final int chunkSize, final ForkJoinPool pool) {
+        this.streamingAESGCM = new StreamingAESGCM(secretKey, chunkSize);
+        this.pool = pool;
+    }
+
+    /**
+     * @param data
+     * @return the framed encrypted data: header and the encrypted chunks.
+     * @throws GeneralSecurityException
+     */
+    public byte[] encrypt(final byte[] data) throws GeneralSecurityException {
+        final var chunkSize = streamingAESGCM.segmentSize();
+        final var size = StreamingAESGCM.ciphertextSize(data.length, chunkSize);
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Data too large to be encrypted into a single array");
+        }
+        final var chunks = (int) StreamingAESGCM.segmentCount(data.length, chunkSize);
+        final var header = streamingAESGCM.newHeader();
+        final var output = new byte[(int) size];
+        header.write(ByteBuffer.wrap(output));
+
+        ParallelTasks.forEach(pool, chunks, index -> {
+            final var from = index * chunkSize;
+            final var length = Math.min(chunkSize, data.length - from);
+            final var offset = (int) StreamingAESGCM.segmentOffset(index, chunkSize);
+            streamingAESGCM.encryptSegment(header, index, index == chunks - 1,
+                ByteBuffer.wrap(data, from, length), ByteBuffer.wrap(output, offset, length + TAG_SIZE));
+        });
+        return output;
+    }
+
+    /**
+     * @param data framed encrypted data.
+     * @return the decrypted data.
+     * @throws GeneralSecurityException if any of the chunks has been tampered.
+     * @throws IllegalArgumentException  if the header is not valid or its chunk size is not the configured one.
+     */
+    public byte[] decrypt(final byte[] data) throws GeneralSecurityException {
+        if (data.length < HEADER_SIZE + TAG_SIZE) {
+            throw new IllegalArgumentException("Data too short to be a framed encrypted data");
+        }
+        // The chunk size of the header is not authenticated yet, it must be the configured one
+        final var header = streamingAESGCM.readHeader(ByteBuffer.wrap(data));
+        final var chunkSize = header.segmentSize();
+        final var encryptedChunkSize = (long) chunkSize + TAG_SIZE;
+        final var output = new byte[(int) StreamingAESGCM.plaintextSize(data.length, chunkSize)];
+        final var chunks = (int) StreamingAESGCM.segmentCount(output.length, chunkSize);
+
+        ParallelTasks.forEach(pool, chunks, index -> {
+            final var offset = (int) StreamingAESGCM.segmentOffset(index, chunkSize);
+            final var length = (int) Math.min(encryptedChunkSize, data.length - offset);
+            final var from = index * chunkSize;
+            streamingAESGCM.decryptSegment(header, index, index == chunks - 1,
+                ByteBuffer.wrap(data, offset, length), ByteBuffer.wrap(output, from, length - TAG_SIZE));
+        });
+        return output;
+    }
+}
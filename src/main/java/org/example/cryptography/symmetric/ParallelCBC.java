@@ -0,0 +1,135 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.concurrent.ParallelTasks;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Decrypt large AES/CBC ciphertexts using all the cores available.
+ * CBC encryption is serial, but every plaintext block only depends on the current and the previous ciphertext
+ * blocks, so the ciphertext is split at block boundaries and every chunk is decrypted concurrently on a
+ * {@link ForkJoinPool}, using the last ciphertext block of the previous chunk as its iv.
+ */
+public final class ParallelCBC {
+
+    public static final String ENCRYPT_ALGORITHM = AESMode.CBC.transformation();
+
+    /**
+     * Legacy ciphertexts are usually padded, only the last chunk contains the padding.
+     */
+    public static final String PADDED_ENCRYPT_ALGORITHM = "AES/CBC/PKCS5Padding";
+
+    public static final int BLOCK_SIZE = 16;
+
+    /**
+     * Chunks must be large enough to amortize the initialization of the cipher and the task scheduling.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private final SecretKey secretKey;
+
+    private final int chunkSize;
+
+    private final ForkJoinPool pool;
+
+    public ParallelCBC(final SecretKey secretKey) {
+        this(secretKey, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param secretKey
+     * @param chunkSize ciphertext bytes per chunk, a multiple of {@value #BLOCK_SIZE}.
+     * @param pool      pool used to decrypt the chunks.
+     */
+    public ParallelCBC(final SecretKey secretKey, final int chunkSize, final ForkJoinPool pool) {
+        if (chunkSize <= 0 || chunkSize % BLOCK_SIZE != 0) {
+            throw new IllegalArgumentException("Chunk size must be a positive multiple of " + BLOCK_SIZE);
+        }
+        this.secretKey = secretKey;
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    /**
+     * @param data encrypted with AES/CBC/NoPadding.
+     * @param iv
+     * @return the decrypted data.
+     * @throws GeneralSecurityException
+     */
+    public byte[] decrypt(final byte[] data, final byte[] iv) throws GeneralSecurityException {
+        final var output = new byte[data.length];
+        decrypt(ENCRYPT_ALGORITHM, ByteBuffer.wrap(data), iv, ByteBuffer.wrap(output));
+        return output;
+    }
+
+    /**
+     * @param data encrypted with AES/CBC/PKCS5Padding.
+     * @param iv
+     * @return the decrypted data without the padding.
+     * @throws GeneralSecurityException if the padding is not valid.
+     */
+    public byte[] decryptPadded(final byte[] data, final byte[] iv) throws GeneralSecurityException {
+        final var output = new byte[data.length];
+        final var size = decrypt(PADDED_ENCRYPT_ALGORITHM, ByteBuffer.wrap(data), iv, ByteBuffer.wrap(output));
+        return Arrays.copyOf(output, size);
+    }
+
+    /**
+     * Decrypt the remaining input encrypted with AES/CBC/NoPadding into the output, i.e. memory-mapped files.
+     *
+     * @param input
+     * @param iv
+     * @param output it must have room for the remaining input.
+     * @return number of bytes written.
+     * @throws GeneralSecurityException
+     */
+    public int decrypt(final ByteBuffer input, final byte[] iv, final ByteBuffer output)
+        throws GeneralSecurityException {
+        return decrypt(ENCRYPT_ALGORITHM, input, iv, output);
+    }
+
+    private int decrypt(final String transformation, final ByteBuffer input, final byte[] iv,
+                        final ByteBuffer output) throws GeneralSecurityException {
+        final var length = input.remaining();
+        if (length % BLOCK_SIZE != 0) {
+            throw new IllegalArgumentException("Encrypted data must be a multiple of " + BLOCK_SIZE + " bytes");
+        }
+        if (output.remaining() < length) {
+            throw new IllegalArgumentException("Output buffer too small for the decrypted data");
+        }
+        final var inputPosition = input.position();
+        final var outputPosition = output.position();
+        final var chunks = Math.max(1, (length + chunkSize - 1) / chunkSize);
+        final var lastSize = new int[1];
+
+        ParallelTasks.forEach(pool, chunks, index -> {
+            final var from = index * chunkSize;
+            final var size = Math.min(chunkSize, length - from);
+            final var last = index == chunks - 1;
+            final var chunkIv = new byte[BLOCK_SIZE];
+            if (index == 0) {
+                System.arraycopy(iv, 0, chunkIv, 0, BLOCK_SIZE);
+            } else {
+                input.get(inputPosition + from - BLOCK_SIZE, chunkIv);
+            }
+            final var cipher = CipherPool.get(last ? transformation : ENCRYPT_ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, secretKey, new IvParameterSpec(chunkIv));
+            final var written = cipher.doFinal(input.slice(inputPosition + from, size),
+                output.slice(outputPosition + from, size));
+            if (last) {
+                lastSize[0] = written;
+            }
+        });
+
+        final var written = (chunks - 1) * chunkSize + lastSize[0];
+        input.position(input.limit());
+        output.position(outputPosition + written);
+        return written;
+    }
+}
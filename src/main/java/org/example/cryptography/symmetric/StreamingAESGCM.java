@@ -0,0 +1,518 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.hashing.HKDF;
+import org.example.cryptography.random.NonceGenerator;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import static org.example.cryptography.symmetric.AESCipher.AUTHENTICATION_TAG_SIZE;
+
+/**
+ * Segmented AES/GCM encryption (STREAM construction) for payloads that do not fit in memory.
+ * The plaintext is split in fixed-size segments and every segment is encrypted with its own nonce and
+ * authentication tag, so memory stays constant and each segment can be authenticated on its own.
+ * <pre>
+ * header     = version (1) | segment size (4) | salt (16) | nonce prefix (7)
+ * stream key = HKDF-SHA256(key, salt, info = "StreamingAESGCM")
+ * nonce      = nonce prefix (7) | segment index (4) | last segment flag (1)
+ * segment    = AES/GCM(stream key, nonce, aad = header, plaintext) | tag (16)
+ * </pre>
+ * Every segment is full but the last one, which is only empty for empty streams. The last segment flag prevents
+ * truncation, and the segment index prevents reordering.
+ * A 7 bytes random nonce prefix alone would repeat after a few thousand streams under the same key (birthday
+ * bound), so every stream is encrypted with its own key derived from a random salt, as STREAM and Tink do.
+ */
+public final class StreamingAESGCM {
+
+    /**
+     * AES + Galois Counter Mode (GCM) + NoPadding
+     */
+    public static final String ENCRYPT_ALGORITHM = AESMode.GCM.transformation();
+
+    public static final byte VERSION = 2;
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024;
+
+    public static final int SALT_SIZE = 16;
+
+    public static final int NONCE_PREFIX_SIZE = 7;
+
+    public static final int NONCE_SIZE = NONCE_PREFIX_SIZE + Integer.BYTES + 1;
+
+    public static final int HEADER_SIZE = 1 + Integer.BYTES + SALT_SIZE + NONCE_PREFIX_SIZE;
+
+    public static final int TAG_SIZE = AUTHENTICATION_TAG_SIZE / 8;
+
+    private static final byte[] STREAM_KEY_INFO = "StreamingAESGCM".getBytes(StandardCharsets.US_ASCII);
+
+    private final SecretKey secretKey;
+
+    private final int segmentSize;
+
+    /**
+     * Key of the last stream, the segments of a stream are usually processed one after another.
+     */
+    private volatile StreamKey lastStreamKey;
+
+    public StreamingAESGCM(final SecretKey secretKey) {
+        this(secretKey, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param secretKey
+     * @param segmentSize plaintext bytes per segment.
+     */
+    public StreamingAESGCM(final SecretKey secretKey, final int segmentSize) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be greater than zero");
+        }
+        this.secretKey = secretKey;
+        this.segmentSize = segmentSize;
+    }
+
+    public int segmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * @param plaintextSize
+     * @param segmentSize
+     * @return the number of segments needed to encrypt the plaintext, there is always at least one segment.
+     */
+    public static long segmentCount(final long plaintextSize, final int segmentSize) {
+        return plaintextSize == 0 ? 1 : (plaintextSize + segmentSize - 1) / segmentSize;
+    }
+
+    /**
+     * @param plaintextSize
+     * @param segmentSize
+     * @return the size of the encrypted stream, including the header.
+     */
+    public static long ciphertextSize(final long plaintextSize, final int segmentSize) {
+        return HEADER_SIZE + plaintextSize + segmentCount(plaintextSize, segmentSize) * TAG_SIZE;
+    }
+
+    /**
+     * @param ciphertextSize size of the encrypted stream, including the header.
+     * @param segmentSize
+     * @return the size of the plaintext.
+     */
+    public static long plaintextSize(final long ciphertextSize, final int segmentSize) {
+        final var encryptedSegmentSize = (long) segmentSize + TAG_SIZE;
+        final var segments = (ciphertextSize - HEADER_SIZE + encryptedSegmentSize - 1) / encryptedSegmentSize;
+        if (segments < 1 || ciphertextSize - segmentOffset(segments - 1, segmentSize) < TAG_SIZE) {
+            throw new IllegalArgumentException("Truncated encrypted stream");
+        }
+        return ciphertextSize - HEADER_SIZE - segments * TAG_SIZE;
+    }
+
+    /**
+     * @param index
+     * @param segmentSize
+     * @return the position of the segment in the encrypted stream, so it can be read and authenticated alone.
+     */
+    public static long segmentOffset(final long index, final int segmentSize) {
+        return HEADER_SIZE + index * ((long) segmentSize + TAG_SIZE);
+    }
+
+    /**
+     * @return a new header with a random salt and nonce prefix, it must be used only once.
+     */
+    public Header newHeader() {
+        final var random = NonceGenerator.random(SALT_SIZE + NONCE_PREFIX_SIZE);
+        return new Header(VERSION, segmentSize, Arrays.copyOf(random, SALT_SIZE),
+            Arrays.copyOfRange(random, SALT_SIZE, random.length));
+    }
+
+    /**
+     * Read the header of an encrypted stream. The header is not authenticated until the first segment is, so its
+     * segment size must be the configured one before it is used to allocate any buffer.
+     *
+     * @param buffer
+     * @return the header read from the buffer.
+     * @throws IllegalArgumentException if it is not a valid header or its segment size is not the configured one.
+     */
+    public Header readHeader(final ByteBuffer buffer) {
+        final var header = Header.read(buffer);
+        if (header.segmentSize() != segmentSize) {
+            throw new IllegalArgumentException("Unexpected segment size: " + header.segmentSize());
+        }
+        return header;
+    }
+
+    /**
+     * Encrypt a single segment into the output buffer.
+     *
+     * @param header
+     * @param index
+     * @param last
+     * @param input  plaintext, up to the segment size.
+     * @param output
+     * @return the number of bytes written.
+     * @throws GeneralSecurityException
+     */
+    public int encryptSegment(final Header header, final long index, final boolean last,
+                              final ByteBuffer input, final ByteBuffer output) throws GeneralSecurityException {
+        return init(Cipher.ENCRYPT_MODE, header, index, last).doFinal(input, output);
+    }
+
+    /**
+     * Authenticate and decrypt a single segment into the output buffer.
+     *
+     * @param header
+     * @param index
+     * @param last
+     * @param input  encrypted segment, including the tag.
+     * @param output
+     * @return the number of bytes written.
+     * @throws GeneralSecurityException if the segment has been tampered.
+     */
+    public int decryptSegment(final Header header, final long index, final boolean last,
+                              final ByteBuffer input, final ByteBuffer output) throws GeneralSecurityException {
+        return init(Cipher.DECRYPT_MODE, header, index, last).doFinal(input, output);
+    }
+
+    /**
+     * Authenticate and decrypt a single segment read from any position of the stream.
+     *
+     * @param header
+     * @param index
+     * @param last
+     * @param segment encrypted segment, including the tag.
+     * @return the decrypted segment.
+     * @throws GeneralSecurityException if the segment has been tampered.
+     */
+    public byte[] decryptSegment(final Header header, final long index, final boolean last, final byte[] segment)
+        throws GeneralSecurityException {
+        return init(Cipher.DECRYPT_MODE, header, index, last).doFinal(segment);
+    }
+
+    /**
+     * @param out destination of the encrypted stream, it is not closed on {@link EncryptingOutputStream#finish()}.
+     * @return a stream that encrypts the data written segment by segment.
+     */
+    public EncryptingOutputStream encryptingStream(final OutputStream out) {
+        return new EncryptingOutputStream(out, newHeader());
+    }
+
+    /**
+     * @param in encrypted stream
+     * @return a stream that authenticates and decrypts the data segment by segment.
+     */
+    public InputStream decryptingStream(final InputStream in) {
+        return new DecryptingInputStream(in);
+    }
+
+    /**
+     * @param in
+     * @param out
+     * @throws IOException
+     */
+    public void encrypt(final InputStream in, final OutputStream out) throws IOException {
+        final var encryptingStream = encryptingStream(out);
+        in.transferTo(encryptingStream);
+        encryptingStream.finish();
+    }
+
+    /**
+     * @param in
+     * @param out
+     * @throws IOException
+     */
+    public void decrypt(final InputStream in, final OutputStream out) throws IOException {
+        decryptingStream(in).transferTo(out);
+    }
+
+    /**
+     * @param in
+     * @param out
+     * @throws IOException
+     */
+    public void encrypt(final ReadableByteChannel in, final WritableByteChannel out) throws IOException {
+        encrypt(Channels.newInputStream(in), Channels.newOutputStream(out));
+    }
+
+    /**
+     * @param in
+     * @param out
+     * @throws IOException
+     */
+    public void decrypt(final ReadableByteChannel in, final WritableByteChannel out) throws IOException {
+        decrypt(Channels.newInputStream(in), Channels.newOutputStream(out));
+    }
+
+    private Cipher init(final int opmode, final Header header, final long index, final boolean last)
+        throws GeneralSecurityException {
+        if (index < 0 || index > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("Segment index out of range: " + index);
+        }
+        final var cipher = AESCipher.init(AESMode.GCM, opmode, streamKey(header), header.nonce(index, last));
+        cipher.updateAAD(header.encoded());
+        return cipher;
+    }
+
+    /**
+     * Derive the key of the stream, the key of the last stream is kept so its segments only derive it once.
+     */
+    private SecretKey streamKey(final Header header) throws GeneralSecurityException {
+        final var streamKey = lastStreamKey;
+        if (streamKey != null && MessageDigest.isEqual(streamKey.salt(), header.salt())) {
+            return streamKey.key();
+        }
+        final var encoded = secretKey.getEncoded();
+        final var derived = HKDF.derive(encoded, header.salt(), STREAM_KEY_INFO, encoded.length);
+        try {
+            final var key = new SecretKeySpec(derived, AESCipher.AES);
+            lastStreamKey = new StreamKey(header.salt().clone(), key);
+            return key;
+        } finally {
+            Arrays.fill(encoded, (byte) 0);
+            Arrays.fill(derived, (byte) 0);
+        }
+    }
+
+    private record StreamKey(byte[] salt, SecretKey key) {
+    }
+
+    /**
+     * Header of the encrypted stream.
+     *
+     * @param version
+     * @param segmentSize
+     * @param salt        random salt of the key of the stream.
+     * @param noncePrefix
+     */
+    public record Header(byte version, int segmentSize, byte[] salt, byte[] noncePrefix) {
+
+        /**
+         * @param buffer
+         * @return the header read from the buffer.
+         */
+        public static Header read(final ByteBuffer buffer) {
+            final var version = buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported stream version: " + version);
+            }
+            final var segmentSize = buffer.getInt();
+            if (segmentSize <= 0) {
+                throw new IllegalArgumentException("Invalid segment size: " + segmentSize);
+            }
+            final var salt = new byte[SALT_SIZE];
+            buffer.get(salt);
+            final var noncePrefix = new byte[NONCE_PREFIX_SIZE];
+            buffer.get(noncePrefix);
+            return new Header(version, segmentSize, salt, noncePrefix);
+        }
+
+        /**
+         * @param buffer
+         */
+        public void write(final ByteBuffer buffer) {
+            buffer.put(version).putInt(segmentSize).put(salt).put(noncePrefix);
+        }
+
+        public byte[] encoded() {
+            final var encoded = ByteBuffer.allocate(HEADER_SIZE);
+            write(encoded);
+            return encoded.array();
+        }
+
+        byte[] nonce(final long index, final boolean last) {
+            return ByteBuffer.allocate(NONCE_SIZE)
+                .put(noncePrefix)
+                .putInt((int) index)
+                .put((byte) (last ? 1 : 0))
+                .array();
+        }
+    }
+
+    /**
+     * Buffer a segment of plaintext and encrypt it once the next one starts, so the last segment is only
+     * known on {@link #finish()}.
+     */
+    public final class EncryptingOutputStream extends FilterOutputStream {
+
+        private final Header header;
+
+        private final byte[] segment;
+
+        private final byte[] encrypted;
+
+        private int position;
+
+        private long index;
+
+        private boolean finished;
+
+        private EncryptingOutputStream(final OutputStream out, final Header header) {
+            super(out);
+            this.header = header;
+            this.segment = new byte[segmentSize];
+            this.encrypted = new byte[segmentSize + TAG_SIZE];
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, int off, int len) throws IOException {
+            if (finished) {
+                throw new IOException("Stream already finished");
+            }
+            while (len > 0) {
+                if (position == segment.length) {
+                    writeSegment(false);
+                }
+                final var count = Math.min(len, segment.length - position);
+                System.arraycopy(b, off, segment, position, count);
+                position += count;
+                off += count;
+                len -= count;
+            }
+        }
+
+        /**
+         * Encrypt the last segment without closing the underlying stream.
+         *
+         * @throws IOException
+         */
+        public void finish() throws IOException {
+            if (!finished) {
+                writeSegment(true);
+                finished = true;
+                out.flush();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Only complete segments can be written, so it just flushes the underlying stream
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            out.close();
+        }
+
+        private void writeSegment(final boolean last) throws IOException {
+            if (index == 0) {
+                out.write(header.encoded());
+            }
+            try {
+                final var size = encryptSegment(header, index++, last,
+                    ByteBuffer.wrap(segment, 0, position), ByteBuffer.wrap(encrypted));
+                out.write(encrypted, 0, size);
+                position = 0;
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Segment encryption failed", e);
+            }
+        }
+    }
+
+    /**
+     * Read a full encrypted segment (plus one byte to know whether it is the last) and decrypt it.
+     */
+    private final class DecryptingInputStream extends InputStream {
+
+        private final PushbackInputStream in;
+
+        private Header header;
+
+        private byte[] encrypted;
+
+        private byte[] segment;
+
+        private int position;
+
+        private int limit;
+
+        private long index;
+
+        private boolean last;
+
+        private DecryptingInputStream(final InputStream in) {
+            this.in = new PushbackInputStream(in, 1);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (position == limit) {
+                if (last) {
+                    return -1;
+                }
+                readSegment();
+            }
+            final var count = Math.min(len, limit - position);
+            System.arraycopy(segment, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        private void readSegment() throws IOException {
+            if (header == null) {
+                final var encoded = in.readNBytes(HEADER_SIZE);
+                if (encoded.length < HEADER_SIZE) {
+                    throw new EOFException("Truncated stream header");
+                }
+                header = readHeader(ByteBuffer.wrap(encoded));
+                encrypted = new byte[segmentSize + TAG_SIZE];
+                segment = new byte[segmentSize];
+            }
+            final var size = in.readNBytes(encrypted, 0, encrypted.length);
+            if (size < TAG_SIZE) {
+                throw new EOFException("Truncated stream segment");
+            }
+            if (size < encrypted.length) {
+                last = true;
+            } else {
+                final var next = in.read();
+                if (next == -1) {
+                    last = true;
+                } else {
+                    in.unread(next);
+                }
+            }
+            try {
+                limit = decryptSegment(header, index++, last,
+                    ByteBuffer.wrap(encrypted, 0, size), ByteBuffer.wrap(segment));
+                position = 0;
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Segment authentication failed", e);
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.cryptography.Utils;
 
+import org.example.cryptography.random.NonceGenerator;
+
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -57,7 +59,7 @@ public class CryptoUtils {
         // Get the Key Generator
         final var keyGenerator = KeyGenerator.getInstance(AES);
         // Init the AES Symmetric key using 128 bits
-        keyGenerator.init(AES_KEY_SIZE, SecureRandom.getInstanceStrong());
+        keyGenerator.init(AES_KEY_SIZE, NonceGenerator.secureRandom());
         return keyGenerator.generateKey();
     }
 
@@ -94,9 +96,7 @@ public class CryptoUtils {
      * @return
      */
     public static byte[] getRandomNonce() {
-        final var nonce = new byte[INITIALIZATION_VECTOR_SIZE];
-        new SecureRandom().nextBytes(nonce);
-        return nonce;
+        return NonceGenerator.random(INITIALIZATION_VECTOR_SIZE);
     }
 
     // --8<-- [end:generate-symmetric-iv]
@@ -1,10 +1,11 @@
 package org.example.cryptography.Utils;
 
 import org.apache.commons.lang3.StringUtils;
+import org.example.cryptography.encoding.Base64Codec;
+import org.example.cryptography.encoding.Hex;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.Base64;
 
 public class EncodeUtils {
 
@@ -13,11 +14,11 @@ public class EncodeUtils {
     public static final int CHUNK_SIZE = 16;
 
     public static String encode(final byte[] data) {
-        return new String(Base64.getEncoder().encode(data), DEFAULT_CHARSET);
+        return Base64Codec.STANDARD.encode(data);
     }
 
     public static String decode(final byte[] data) {
-        return new String(Base64.getDecoder().decode(data), DEFAULT_CHARSET);
+        return toString(Base64Codec.STANDARD.decode(data));
     }
 
     public static String toString(final byte[] data) {
@@ -25,16 +26,11 @@ public class EncodeUtils {
     }
 
     public static String toHex(final byte[] bytes) {
-        StringBuilder result = new StringBuilder();
-        for (byte b : bytes) {
-            result.append(String.format("%02x", b));
-        }
-        return result.toString();
+        return Hex.encode(bytes);
     }
 
     public static String toHexSplit(final byte[] bytes, final int chunkSize) {
-        final var textArray = EncodeUtils.toHex(bytes).split(String.format("(?<=\\G.{%d})", chunkSize));
-        return String.join("\n", textArray);
+        return Hex.encodeLines(bytes, chunkSize);
     }
 
     public static String toBinaryStringWithPadding(final int i, final int size) {
@@ -1,6 +1,8 @@
 package org.example.cryptography.Utils;
 
-import java.security.SecureRandom;
+import org.example.cryptography.basic.XorEngine;
+import org.example.cryptography.random.NonceGenerator;
+
 import java.util.Random;
 
 public class XorUtils {
@@ -10,11 +12,10 @@ public class XorUtils {
      * @return
      */
     public static byte[] generateKey(final int bits) {
-        SecureRandom random = new SecureRandom();
         // bits are converted into bytes. i.e 128bits / 8 bits = 16 bytes
         var result = new byte[(int) Math.floor((double) bits / 8)];
         // Generate a random value using specified bytes size.
-        random.nextBytes(result);
+        NonceGenerator.nextBytes(result);
         return result;
     }
 
@@ -42,10 +43,6 @@ public class XorUtils {
         if (string1.length != string2.length) {
             throw new RuntimeException("Both byte arrays must be equal to apply XOR operation");
         }
-        byte[] out = new byte[string1.length];
-        for (int i = 0; i < string1.length; i++) {
-            out[i] = (byte) (string1[i] ^ string2[i % string2.length]);
-        }
-        return out;
+        return XorEngine.xor(string1, string2);
     }
 }
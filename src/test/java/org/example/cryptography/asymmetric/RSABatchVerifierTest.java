@@ -0,0 +1,67 @@
+package org.example.cryptography.asymmetric;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RSABatchVerifierTest {
+
+    @Test
+    @DisplayName("Verify a batch of RSA signatures from several keys in parallel")
+    public void verifyBatch() throws GeneralSecurityException {
+        final var keyPairs = List.of(CryptoUtils.generateAsymmetricKeyPair(), CryptoUtils.generateAsymmetricKeyPair());
+        final var items = new ArrayList<RSABatchVerifier.Item>();
+        final var expected = new BitSet();
+
+        for (int i = 0; i < 50; i++) {
+            final var keyPair = keyPairs.get(i % keyPairs.size());
+            final var data = ("This is the message " + i + " signed with RSA.").getBytes();
+            final var signature = RSASignature.sign(data, keyPair.getPrivate());
+
+            // Tamper every third message
+            final var tampered = i % 3 == 0;
+            final var signedData = tampered ? ("Another message " + i).getBytes() : data;
+            items.add(new RSABatchVerifier.Item(signedData, keyPair.getPublic().getEncoded(), signature));
+            expected.set(i, !tampered);
+        }
+
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var verifier = new RSABatchVerifier(pool, 8, new RSAKeyCache(16, Duration.ofMinutes(1)));
+            final var valid = verifier.verify(items);
+            System.out.printf("Valid: %d of %d\n", valid.cardinality(), items.size());
+
+            assertEquals(expected, valid);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid keys and malformed RSA signatures are reported as not valid")
+    public void verifyBatchWithInvalidItems() throws GeneralSecurityException {
+        final var keyPair = CryptoUtils.generateAsymmetricKeyPair();
+        final var data = "This is an example that uses RSA to sign.".getBytes();
+        final var signature = RSASignature.sign(data, keyPair.getPrivate());
+        final var publicKey = keyPair.getPublic().getEncoded();
+
+        final var valid = new RSABatchVerifier().verify(List.of(
+            new RSABatchVerifier.Item(data, publicKey, signature),
+            new RSABatchVerifier.Item(data, new byte[]{1, 2, 3}, signature),
+            new RSABatchVerifier.Item(data, publicKey, new byte[]{1, 2, 3})));
+
+        assertTrue(valid.get(0));
+        assertEquals(1, valid.cardinality());
+        assertTrue(new RSABatchVerifier().verify(List.of()).isEmpty());
+    }
+}
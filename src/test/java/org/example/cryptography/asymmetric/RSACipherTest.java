@@ -0,0 +1,53 @@
+package org.example.cryptography.asymmetric;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.example.cryptography.Utils.EncodeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+
+import static org.example.cryptography.Utils.EncodeUtils.CHUNK_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RSACipherTest {
+
+    @Test
+    @DisplayName("Encrypt Decrypt with RSA using every padding and the pooled Cipher")
+    public void encryptDecryptWithRSA() throws GeneralSecurityException {
+        final var keyPair = CryptoUtils.generateAsymmetricKeyPair();
+        final var plainText = "This is an example that uses RSA to encrypt.";
+
+        for (final var padding : RSAPadding.values()) {
+            final var encryptedData = RSACipher.encrypt(padding, plainText.getBytes(), keyPair.getPublic());
+            System.out.printf("Encrypted Text (%s):\n%s\n", padding, EncodeUtils.toHexSplit(encryptedData, CHUNK_SIZE));
+
+            final var decryptedData = RSACipher.decrypt(padding, encryptedData, keyPair.getPrivate());
+            assertEquals(plainText, EncodeUtils.toString(decryptedData));
+        }
+    }
+
+    @Test
+    @DisplayName("Encrypt Decrypt with RSA into direct buffers")
+    public void encryptDecryptWithRSAIntoBuffers() throws GeneralSecurityException {
+        final var keyPair = CryptoUtils.generateAsymmetricKeyPair();
+        final var plainText = "This is an example that uses RSA to encrypt.";
+        final var encrypted = ByteBuffer.allocateDirect(256);
+        final var decrypted = ByteBuffer.allocateDirect(256);
+
+        for (final var padding : RSAPadding.values()) {
+            encrypted.clear();
+            decrypted.clear();
+
+            final var encryptedSize = RSACipher.encrypt(padding, keyPair.getPublic(),
+                ByteBuffer.wrap(plainText.getBytes()), encrypted);
+            assertEquals(256, encryptedSize);
+
+            final var decryptedSize = RSACipher.decrypt(padding, keyPair.getPrivate(), encrypted.flip(), decrypted);
+            final var decryptedData = new byte[decryptedSize];
+            decrypted.flip().get(decryptedData);
+            assertEquals(plainText, EncodeUtils.toString(decryptedData));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.cryptography.asymmetric;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.example.cryptography.Utils.EncodeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RSAKeyCacheTest {
+
+    @Test
+    @DisplayName("Decode the encoded RSA keys once and reuse them while cached")
+    public void decodeKeysOnce() throws GeneralSecurityException {
+        final var keyPair = CryptoUtils.generateAsymmetricKeyPair();
+        final var keyCache = new RSAKeyCache(16, Duration.ofMinutes(1));
+
+        final var publicKey = keyCache.publicKey(keyPair.getPublic().getEncoded());
+        final var privateKey = keyCache.privateKey(keyPair.getPrivate().getEncoded());
+        assertEquals(keyPair.getPublic(), publicKey);
+        assertEquals(keyPair.getPrivate(), privateKey);
+
+        // A copy of the encoded key must hit the same entry
+        assertSame(publicKey, keyCache.publicKey(keyPair.getPublic().getEncoded().clone()));
+        assertSame(privateKey, keyCache.privateKey(keyPair.getPrivate().getEncoded().clone()));
+
+        final var stats = keyCache.publicKeyStats();
+        System.out.printf("Public keys: %s\n", stats);
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, keyCache.privateKeyStats().hits());
+    }
+
+    @Test
+    @DisplayName("Evict the least recently used RSA key when the cache is full")
+    public void evictLeastRecentlyUsed() throws GeneralSecurityException {
+        final var keyCache = new RSAKeyCache(1, Duration.ofMinutes(1));
+        final var first = CryptoUtils.generateAsymmetricKeyPair().getPublic().getEncoded();
+        final var second = CryptoUtils.generateAsymmetricKeyPair().getPublic().getEncoded();
+
+        keyCache.publicKey(first);
+        keyCache.publicKey(second);
+        keyCache.publicKey(first);
+
+        assertEquals(3, keyCache.publicKeyStats().misses());
+        assertEquals(2, keyCache.publicKeyStats().evictions());
+    }
+
+    @Test
+    @DisplayName("Invalid encoded RSA keys are rejected and not cached")
+    public void rejectInvalidKeys() {
+        final var keyCache = new RSAKeyCache(16, Duration.ofMinutes(1));
+        assertThrows(GeneralSecurityException.class, () -> keyCache.publicKey(new byte[]{1, 2, 3}));
+        assertThrows(GeneralSecurityException.class, () -> keyCache.publicKey(new byte[]{1, 2, 3}));
+        assertEquals(2, keyCache.publicKeyStats().misses());
+    }
+
+    @Test
+    @DisplayName("Sign and validate with RSA from encoded keys decoded through the cache")
+    public void signWithEncodedKeys() throws GeneralSecurityException {
+        final var keyPair = CryptoUtils.generateAsymmetricKeyPair();
+        final var data = "This is an example that uses RSA to sign.";
+
+        final var signature = RSASignature.sign(data.getBytes(), keyPair.getPrivate().getEncoded());
+        System.out.printf("Signature: %s\n", EncodeUtils.toHex(signature));
+
+        assertTrue(RSASignature.validate(data.getBytes(), keyPair.getPublic().getEncoded(), signature));
+        assertTrue(RSASignature.validate(data.getBytes(), keyPair.getPublic(), signature));
+        assertFalse(RSASignature.validate("Another data".getBytes(), keyPair.getPublic().getEncoded(), signature));
+
+        final var encryptedData = RSACipher.encrypt(RSAPadding.OAEP, data.getBytes(),
+            keyPair.getPublic().getEncoded());
+        final var decryptedData = RSACipher.decrypt(RSAPadding.OAEP, encryptedData,
+            keyPair.getPrivate().getEncoded());
+        assertEquals(data, EncodeUtils.toString(decryptedData));
+    }
+}
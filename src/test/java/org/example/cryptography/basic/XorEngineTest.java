@@ -0,0 +1,110 @@
+package org.example.cryptography.basic;
+
+import org.example.cryptography.Utils.EncodeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class XorEngineTest {
+
+    private static final Random RANDOM = new Random(42);
+
+    @Test
+    @DisplayName("XOR with repeating keys of any length using long words")
+    public void xorWithRepeatingKeys() {
+        for (final var keySize : new int[]{1, 3, 8, 13, 64, 700}) {
+            final var key = randomData(keySize);
+            for (final var size : new int[]{0, 1, 7, 8, 9, 100, 1000, 5000}) {
+                final var data = randomData(size);
+                final var expected = xorBytes(data, key, 0);
+
+                assertArrayEquals(expected, XorEngine.xor(data, key));
+
+                final var inPlace = data.clone();
+                XorEngine.xorInPlace(inPlace, key);
+                assertArrayEquals(expected, inPlace);
+
+                // XOR is its own inverse
+                XorEngine.xorInPlace(inPlace, key);
+                assertArrayEquals(data, inPlace);
+            }
+        }
+        final var encrypted = XorEngine.xor("This is an example of XOR.".getBytes(), "key".getBytes());
+        System.out.printf("Encrypted: %s\n", EncodeUtils.toHex(encrypted));
+    }
+
+    @Test
+    @DisplayName("XOR a keystream in pieces from the key position already processed")
+    public void xorInPieces() {
+        final var key = randomData(37);
+        final var data = randomData(10_000);
+        final var expected = xorBytes(data, key, 0);
+
+        final var output = new byte[data.length];
+        for (int offset = 0; offset < data.length; ) {
+            final var length = Math.min(data.length - offset, RANDOM.nextInt(300));
+            XorEngine.xor(data, offset, length, key, offset, output, offset);
+            offset += length;
+        }
+        assertArrayEquals(expected, output);
+        assertArrayEquals(xorBytes(data, key, 5), xorWithPosition(data, key, 5));
+    }
+
+    @Test
+    @DisplayName("XOR heap and direct buffers")
+    public void xorBuffers() {
+        final var key = randomData(13);
+        final var data = randomData(4099);
+        final var expected = xorBytes(data, key, 3);
+
+        for (final var direct : new boolean[]{false, true}) {
+            final var buffer = direct ? ByteBuffer.allocateDirect(data.length) : ByteBuffer.allocate(data.length);
+            buffer.put(data).flip();
+
+            // In place, the same instance is only advanced once
+            assertEquals(data.length, XorEngine.xor(buffer, key, 3, buffer));
+            assertEquals(data.length, buffer.position());
+            final var result = new byte[data.length];
+            buffer.flip().get(result);
+            assertArrayEquals(expected, result);
+
+            // Another view of the same memory, both are advanced
+            final var view = buffer.flip().duplicate();
+            assertEquals(data.length, XorEngine.xor(buffer, key, 3, view));
+            assertEquals(data.length, buffer.position());
+            assertEquals(data.length, view.position());
+            buffer.flip().get(result);
+            assertArrayEquals(data, result);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> XorEngine.xor(data, new byte[0]));
+        assertThrows(IllegalArgumentException.class,
+            () -> XorEngine.xor(ByteBuffer.wrap(data), key, 0, ByteBuffer.allocate(10)));
+    }
+
+    private static byte[] xorWithPosition(final byte[] data, final byte[] key, final long keyPosition) {
+        final var output = new byte[data.length];
+        XorEngine.xor(data, 0, data.length, key, keyPosition, output, 0);
+        return output;
+    }
+
+    private static byte[] xorBytes(final byte[] data, final byte[] key, final int keyPosition) {
+        final var output = new byte[data.length];
+        for (int i = 0; i < data.length; i++) {
+            output[i] = (byte) (data[i] ^ key[(i + keyPosition) % key.length]);
+        }
+        return output;
+    }
+
+    private static byte[] randomData(final int size) {
+        final var data = new byte[size];
+        RANDOM.nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.cryptography.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ExpiringCacheTest {
+
+    @Test
+    @DisplayName("Least recently used entry is evicted when the cache is full")
+    public void evictLeastRecentlyUsed() {
+        final var evicted = new ArrayList<String>();
+        final var cache = ExpiringCache.<String, String>builder()
+            .maximumSize(2)
+            .evictionListener((key, value) -> evicted.add(key))
+            .build();
+
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertEquals(List.of("b"), evicted);
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(new ExpiringCache.Stats(2, 1, 1), cache.stats());
+    }
+
+    @Test
+    @DisplayName("Entries expire after the time to live")
+    public void expireAfterTimeToLive() {
+        final var time = new AtomicLong();
+        final var cache = ExpiringCache.<String, String>builder()
+            .timeToLive(Duration.ofSeconds(10))
+            .ticker(time::get)
+            .build();
+
+        cache.put("a", "1");
+        time.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertEquals("1", cache.get("a"));
+
+        time.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Entries are evicted after the maximum number of uses")
+    public void evictAfterMaximumUses() {
+        final var cache = ExpiringCache.<String, String>builder()
+            .maximumUses(3)
+            .build();
+
+        cache.put("a", "1");
+        for (int i = 0; i < 3; i++) {
+            assertEquals("1", cache.get("a"));
+        }
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.stats().evictions());
+    }
+}
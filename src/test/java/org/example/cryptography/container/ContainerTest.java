@@ -0,0 +1,98 @@
+package org.example.cryptography.container;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.example.cryptography.Utils.EncodeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.AEADBadTagException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ContainerTest {
+
+    @Test
+    @DisplayName("Encrypt into a container and decrypt dispatching on its header")
+    public void encryptDecrypt() throws GeneralSecurityException {
+        final var data = "This is an example that uses a binary container.".getBytes(StandardCharsets.UTF_8);
+        final var secretKey = CryptoUtils.generateSymmetricKey();
+        final var keyPair = CryptoUtils.generateAsymmetricKeyPair();
+        final Map<String, Key> keys = Map.of("aes", secretKey, "rsa", keyPair.getPrivate());
+        final ContainerCipher.KeyResolver resolver = (algorithm, keyId) ->
+            keys.get(StandardCharsets.UTF_8.decode(keyId).toString());
+
+        for (final var algorithm : ContainerAlgorithm.values()) {
+            final var rsa = algorithm == ContainerAlgorithm.RSA_OAEP;
+            final var keyId = (rsa ? "rsa" : "aes").getBytes(StandardCharsets.UTF_8);
+            final var encrypted = ContainerCipher.encrypt(algorithm, keyId, rsa ? keyPair.getPublic() : secretKey,
+                data);
+            System.out.printf("%s container: %s\n", algorithm, EncodeUtils.toHex(encrypted));
+
+            final var container = Container.read(ByteBuffer.wrap(encrypted));
+            assertEquals(algorithm, container.algorithm());
+            assertEquals(algorithm.tagLength(), container.tagLength());
+            assertEquals(ByteBuffer.wrap(keyId), container.keyId());
+            assertEquals(algorithm.nonceSize(), container.nonce().remaining());
+            assertFalse(container.isChunked());
+            assertArrayEquals(data, ContainerCipher.decrypt(encrypted, resolver));
+        }
+    }
+
+    @Test
+    @DisplayName("Encrypt AES/GCM in chunks listed in the chunk table")
+    public void encryptDecryptChunks() throws GeneralSecurityException {
+        final var data = new byte[10_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        final var secretKey = CryptoUtils.generateSymmetricKey();
+        final var keyId = new byte[]{1, 2, 3};
+        final var output = ByteBuffer.allocateDirect(Container.headerSize(keyId.length, 12, 3) + data.length + 48);
+        final var written = ContainerCipher.encrypt(keyId, secretKey, 4096, ByteBuffer.wrap(data), output);
+        assertEquals(output.capacity(), written);
+
+        final var container = Container.read(output.flip());
+        assertFalse(output.hasRemaining());
+        assertTrue(container.isChunked());
+        assertEquals(3, container.chunkCount());
+        assertEquals(4096 + 16, container.chunkLength(1));
+        assertEquals(10_000 - 2 * 4096 + 16, container.chunk(2).remaining());
+
+        final var decrypted = ByteBuffer.allocateDirect(data.length);
+        assertEquals(data.length, ContainerCipher.decrypt(container, secretKey, decrypted));
+        final var result = new byte[data.length];
+        decrypted.flip().get(result);
+        assertArrayEquals(data, result);
+    }
+
+    @Test
+    @DisplayName("Authenticate the header of AES/GCM containers")
+    public void rejectTamperedContainers() throws GeneralSecurityException {
+        final var secretKey = CryptoUtils.generateSymmetricKey();
+        final var encrypted = ContainerCipher.encrypt(ContainerAlgorithm.AES_GCM, new byte[]{1}, secretKey,
+            "This is an example that uses a binary container.".getBytes(StandardCharsets.UTF_8));
+
+        // Key id
+        final var tampered = encrypted.clone();
+        tampered[6] ^= 1;
+        assertThrows(AEADBadTagException.class, () -> ContainerCipher.decrypt(tampered, (a, keyId) -> secretKey));
+
+        final var version = encrypted.clone();
+        version[0] = 2;
+        assertThrows(IllegalArgumentException.class, () -> ContainerCipher.decrypt(version, (a, keyId) -> secretKey));
+
+        final var truncated = Arrays.copyOf(encrypted, encrypted.length - 1);
+        assertThrows(IllegalArgumentException.class,
+            () -> ContainerCipher.decrypt(truncated, (a, keyId) -> secretKey));
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.cryptography.encoding;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.example.cryptography.symmetric.StreamingAESGCM;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class Base64StreamTest {
+
+    private static final Random RANDOM = new Random(42);
+
+    @Test
+    @DisplayName("Encrypt with streaming AES/GCM and Base64 the ciphertext as it is written")
+    public void encryptEncodeStreaming() throws GeneralSecurityException, IOException {
+        final var streamingAESGCM = new StreamingAESGCM(CryptoUtils.generateSymmetricKey(), 1024);
+        final var plainData = randomData(Base64Codec.STREAM_BLOCK_SIZE * 3 + 7);
+
+        // Cipher stage chained directly to the Base64 stage
+        final var text = new ByteArrayOutputStream();
+        try (var out = streamingAESGCM.encryptingStream(Base64Codec.URL_SAFE.encodingStream(text))) {
+            out.write(plainData);
+        }
+        System.out.printf("Plain size: %d, Base64 size: %d\n", plainData.length, text.size());
+
+        // Base64 stage chained directly to the decipher stage
+        final var decrypted = new ByteArrayOutputStream();
+        streamingAESGCM.decrypt(Base64Codec.URL_SAFE.decodingStream(new ByteArrayInputStream(text.toByteArray())),
+            decrypted);
+
+        assertArrayEquals(plainData, decrypted.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Encode Decode Base64 streams written and read in pieces of any size")
+    public void encodeDecodeInPieces() throws IOException {
+        final var block = Base64Codec.STREAM_BLOCK_SIZE;
+        for (final var size : new int[]{0, 1, 2, 3, block, block * 2 + 1}) {
+            final var data = randomData(size);
+            final var text = new ByteArrayOutputStream();
+            final var out = Base64Codec.STANDARD.encodingStream(text);
+            for (int offset = 0; offset < size; ) {
+                final var count = Math.min(size - offset, RANDOM.nextInt(100) + 1);
+                out.write(data, offset, count);
+                offset += count;
+            }
+            out.finish();
+            assertEquals(Base64.getEncoder().encodeToString(data), text.toString(StandardCharsets.US_ASCII));
+
+            final var in = Base64Codec.STANDARD.decodingStream(new ByteArrayInputStream(text.toByteArray()));
+            final var decoded = new ByteArrayOutputStream();
+            final var buffer = new byte[37];
+            for (int count; (count = in.read(buffer)) >= 0; ) {
+                decoded.write(buffer, 0, count);
+            }
+            assertArrayEquals(data, decoded.toByteArray());
+        }
+    }
+
+    @Test
+    @DisplayName("Encode Decode Base64 through channels")
+    public void encodeDecodeChannels() throws IOException {
+        final var data = randomData(10_000);
+        final var text = new ByteArrayOutputStream();
+        try (var channel = Base64Codec.STANDARD.encodingChannel(Channels.newChannel(text))) {
+            channel.write(ByteBuffer.wrap(data));
+        }
+
+        final var decoded = ByteBuffer.allocate(data.length);
+        try (var channel = Base64Codec.STANDARD.decodingChannel(
+            Channels.newChannel(new ByteArrayInputStream(text.toByteArray())))) {
+            while (channel.read(decoded) >= 0 && decoded.hasRemaining()) {
+                // Read until the buffer is full
+            }
+        }
+        assertArrayEquals(data, decoded.array());
+    }
+
+    @Test
+    @DisplayName("Illegal Base64 text fails while reading the stream")
+    public void decodeIllegalText() {
+        final var in = Base64Codec.STANDARD.decodingStream(new ByteArrayInputStream("QUJD*A==".getBytes()));
+        assertThrows(IOException.class, in::readAllBytes);
+
+        final var padded = Base64Codec.STANDARD.decodingStream(new ByteArrayInputStream("QQ==QUJD".getBytes()));
+        assertThrows(IOException.class, padded::readAllBytes);
+    }
+
+    private static byte[] randomData(final int size) {
+        final var data = new byte[size];
+        RANDOM.nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.cryptography.encoding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EncodingTest {
+
+    private static final Random RANDOM = new Random(42);
+
+    @Test
+    @DisplayName("Encode Decode hex with the lookup tables")
+    public void encodeDecodeHex() throws IOException {
+        for (int size = 0; size < 100; size++) {
+            final var data = randomData(size);
+            final var expected = formatHex(data);
+
+            final var encoded = Hex.encode(data);
+            assertEquals(expected, encoded);
+            assertArrayEquals(data, Hex.decode(encoded));
+            assertArrayEquals(data, Hex.decode(encoded.toUpperCase()));
+
+            final var chars = new char[size * 2];
+            assertEquals(size * 2, Hex.encode(data, 0, size, chars, 0));
+            final var decoded = new byte[size];
+            assertEquals(size, Hex.decode(chars, 0, chars.length, decoded, 0));
+            assertArrayEquals(data, decoded);
+
+            final var buffer = ByteBuffer.allocateDirect(size * 2);
+            Hex.encode(ByteBuffer.wrap(data), buffer);
+            assertEquals(expected, StandardCharsets.US_ASCII.decode(buffer.flip()).toString());
+
+            // Lines as the former regex split of the hex text
+            final var lines = String.join("\n", expected.split("(?<=\\G.{16})"));
+            assertEquals(lines, Hex.encodeLines(data, 16));
+            final var writer = new StringWriter();
+            Hex.encode(data, 16, writer);
+            assertEquals(lines, writer.toString());
+        }
+        System.out.printf("Hex: %s\n", Hex.encodeLines("This is an example of hex lines.".getBytes(), 16));
+
+        assertThrows(IllegalArgumentException.class, () -> Hex.decode("abc"));
+        assertThrows(IllegalArgumentException.class, () -> Hex.decode("zz"));
+    }
+
+    @Test
+    @DisplayName("Encode Decode Base64 into char arrays and buffers with both alphabets")
+    public void encodeDecodeBase64() {
+        for (final var codec : Base64Codec.values()) {
+            final var encoder = codec == Base64Codec.STANDARD ? Base64.getEncoder() : Base64.getUrlEncoder();
+            for (int size = 0; size < 100; size++) {
+                final var data = randomData(size);
+                final var expected = encoder.encodeToString(data);
+
+                assertEquals(expected, codec.encode(data));
+                assertEquals(Base64Codec.encodedLength(size), expected.length());
+
+                final var chars = new char[expected.length()];
+                assertEquals(expected.length(), codec.encode(data, 0, size, chars, 0));
+                assertEquals(expected, new String(chars));
+
+                final var buffer = ByteBuffer.allocateDirect(expected.length());
+                codec.encode(ByteBuffer.wrap(data), buffer);
+                assertEquals(expected, StandardCharsets.US_ASCII.decode(buffer.flip()).toString());
+
+                final var decoded = ByteBuffer.allocateDirect(size);
+                assertEquals(size, codec.decode(buffer.flip(), decoded));
+                assertEquals(ByteBuffer.wrap(data), decoded.flip());
+
+                // Padding is optional
+                final var unpadded = expected.replace("=", "").getBytes(StandardCharsets.US_ASCII);
+                decoded.clear();
+                assertEquals(size, codec.decode(ByteBuffer.wrap(unpadded), decoded));
+                assertArrayEquals(data, codec.decode(expected));
+            }
+        }
+        System.out.printf("Base64: %s\n", Base64Codec.URL_SAFE.encode(new byte[]{-5, -1, -65}));
+
+        final var output = ByteBuffer.allocate(16);
+        assertThrows(IllegalArgumentException.class,
+            () -> Base64Codec.STANDARD.decode(ByteBuffer.wrap("A".getBytes()), output));
+        assertThrows(IllegalArgumentException.class,
+            () -> Base64Codec.STANDARD.decode(ByteBuffer.wrap("-_==".getBytes()), output));
+    }
+
+    private static String formatHex(final byte[] data) {
+        final var result = new StringBuilder();
+        for (final var b : data) {
+            result.append(String.format("%02x", b));
+        }
+        return result.toString();
+    }
+
+    private static byte[] randomData(final int size) {
+        final var data = new byte[size];
+        RANDOM.nextBytes(data);
+        return data;
+    }
+}
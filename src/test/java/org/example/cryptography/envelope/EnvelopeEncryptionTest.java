@@ -0,0 +1,81 @@
+package org.example.cryptography.envelope;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.example.cryptography.Utils.EncodeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class EnvelopeEncryptionTest {
+
+    @Test
+    @DisplayName("Encrypt Decrypt data greater than 245 bytes using RSA/OAEP envelope encryption")
+    public void encryptDecryptLargeData() throws Exception {
+        final var keyPair = CryptoUtils.generateAsymmetricKeyPair();
+        final var envelopeEncryption = new EnvelopeEncryption(keyPair.getPublic(), keyPair.getPrivate());
+
+        // The data to be encrypted and decrypted (greater than 245 bytes).
+        final var data = Files.readString(Paths.get(getClass().getClassLoader().getResource("files/large.txt").toURI()));
+
+        // Serialize the envelope, as it would be sent to the destination
+        final var envelope = envelopeEncryption.encrypt(data.getBytes()).toBytes();
+        System.out.printf("Envelope size: %d\n", envelope.length);
+
+        final var decryptedData = envelopeEncryption.decrypt(Envelope.fromBytes(envelope));
+
+        assertEquals(data, EncodeUtils.toString(decryptedData));
+    }
+
+    @Test
+    @DisplayName("Decrypt a stream of messages with a single RSA operation")
+    public void decryptMessagesWithCachedDataKey() throws GeneralSecurityException {
+        final var keyPair = CryptoUtils.generateAsymmetricKeyPair();
+        final var sender = new EnvelopeEncryption(keyPair.getPublic(), null);
+        final var receiver = new EnvelopeEncryption(null, keyPair.getPrivate());
+
+        final var messages = 100;
+        Envelope previous = null;
+        for (int i = 0; i < messages; i++) {
+            final var plainData = ("Message " + i).getBytes();
+            final var envelope = sender.encrypt(plainData);
+            if (previous != null) {
+                // Same data key, different nonce for every message
+                assertSame(previous.wrappedKey(), envelope.wrappedKey());
+                assertNotEquals(EncodeUtils.toHex(previous.nonce()), EncodeUtils.toHex(envelope.nonce()));
+            }
+            assertArrayEquals(plainData, receiver.decrypt(envelope));
+            previous = envelope;
+        }
+
+        final var stats = receiver.dataKeyCacheStats();
+        System.out.printf("Data key cache: %s\n", stats);
+        assertEquals(1, stats.misses());
+        assertEquals(messages - 1, stats.hits());
+    }
+
+    @Test
+    @DisplayName("Data key is rotated after the maximum number of messages")
+    public void rotateDataKey() throws GeneralSecurityException {
+        final var keyPair = CryptoUtils.generateAsymmetricKeyPair();
+        final var config = new EnvelopeEncryption.Config(2, Duration.ofHours(1), 16, Duration.ofMinutes(1), 0);
+        final var envelopeEncryption = new EnvelopeEncryption(keyPair.getPublic(), keyPair.getPrivate(), config);
+
+        final var first = envelopeEncryption.encrypt("first".getBytes());
+        final var second = envelopeEncryption.encrypt("second".getBytes());
+        final var third = envelopeEncryption.encrypt("third".getBytes());
+
+        assertSame(first.wrappedKey(), second.wrappedKey());
+        assertNotEquals(EncodeUtils.toHex(second.wrappedKey()), EncodeUtils.toHex(third.wrappedKey()));
+        assertEquals("first", EncodeUtils.toString(envelopeEncryption.decrypt(first)));
+        assertEquals("third", EncodeUtils.toString(envelopeEncryption.decrypt(third)));
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.example.cryptography.Utils.EncodeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class DerivedKeyCacheTest {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+
+    private static final int ITERATIONS = 1000;
+
+    private static final int KEY_LENGTH = 256;
+
+    @Test
+    @DisplayName("Derive the key once and return copies while it is cached")
+    public void deriveOnce() throws GeneralSecurityException {
+        final var cache = new DerivedKeyCache();
+        final var password = "myPassword".toCharArray();
+        final var salt = CryptoUtils.getRandomNonce();
+        final var expected = PBKDF2.hash(ALGORITHM, password, salt, ITERATIONS, KEY_LENGTH);
+
+        final var key = cache.derive(ALGORITHM, password, salt, ITERATIONS, KEY_LENGTH);
+        System.out.printf("Derived key: %s\n", EncodeUtils.toHex(key));
+        assertArrayEquals(expected, key);
+        // The caller clearing its copy does not affect the cached key
+        Arrays.fill(key, (byte) 0);
+        assertArrayEquals(expected, cache.derive(ALGORITHM, password, salt, ITERATIONS, KEY_LENGTH));
+
+        final var stats = cache.stats();
+        System.out.printf("Stats: %s\n", stats);
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+
+    @Test
+    @DisplayName("Key on the password, salt, iterations and key length")
+    public void keyOnAllParameters() throws GeneralSecurityException {
+        final var cache = new DerivedKeyCache();
+        final var password = "myPassword".toCharArray();
+        final var salt = CryptoUtils.getRandomNonce();
+        final var key = cache.derive(ALGORITHM, password, salt, ITERATIONS, KEY_LENGTH);
+
+        final var otherPassword = cache.derive(ALGORITHM, "myPassword2".toCharArray(), salt, ITERATIONS, KEY_LENGTH);
+        final var otherSalt = cache.derive(ALGORITHM, password, CryptoUtils.getRandomNonce(), ITERATIONS, KEY_LENGTH);
+        final var otherIterations = cache.derive(ALGORITHM, password, salt, ITERATIONS + 1, KEY_LENGTH);
+        assertFalse(Arrays.equals(key, otherPassword));
+        assertFalse(Arrays.equals(key, otherSalt));
+        assertFalse(Arrays.equals(key, otherIterations));
+        assertArrayEquals(PBKDF2.hash(ALGORITHM, password, salt, ITERATIONS, 128),
+            cache.derive(ALGORITHM, password, salt, ITERATIONS, 128));
+
+        assertEquals(5, cache.size());
+        assertEquals(0, cache.stats().hits());
+    }
+
+    @Test
+    @DisplayName("Evict the least recently used keys when the cache is full")
+    public void evictWhenFull() throws GeneralSecurityException {
+        final var cache = new DerivedKeyCache(2, Duration.ofMinutes(1));
+        final var salt = CryptoUtils.getRandomNonce();
+        for (int i = 0; i < 3; i++) {
+            cache.derive(ALGORITHM, ("password" + i).toCharArray(), salt, ITERATIONS, KEY_LENGTH);
+        }
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.stats().evictions());
+
+        // The evicted key is derived again
+        final var password = "password0".toCharArray();
+        assertArrayEquals(PBKDF2.hash(ALGORITHM, password, salt, ITERATIONS, KEY_LENGTH),
+            cache.derive(ALGORITHM, password, salt, ITERATIONS, KEY_LENGTH));
+        assertEquals(0, cache.stats().hits());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+}
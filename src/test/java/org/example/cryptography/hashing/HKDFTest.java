@@ -0,0 +1,33 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.Utils.EncodeUtils;
+import org.example.cryptography.encoding.Hex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.GeneralSecurityException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class HKDFTest {
+
+    @Test
+    @DisplayName("Derive keys with HKDF-SHA256 as the RFC 5869 test vectors")
+    public void deriveRFC5869() throws GeneralSecurityException {
+        final var key = Hex.decode("0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b");
+        final var salt = Hex.decode("000102030405060708090a0b0c");
+        final var info = Hex.decode("f0f1f2f3f4f5f6f7f8f9");
+
+        final var prk = HKDF.extract(salt, key);
+        assertArrayEquals(Hex.decode("077709362c2e32df0ddc3f0dc47bba6390b6c73bb50f9c3122ec844ad7c2b3e5"), prk);
+
+        final var derived = HKDF.derive(key, salt, info, 42);
+        System.out.printf("HKDF: %s\n", EncodeUtils.toHex(derived));
+        assertArrayEquals(Hex.decode("3cb25f25faacd57a90434f64d0362f2a2d2d0a90cf1a5a4c5db02d56ecc4c5bf"
+            + "34007208d5b887185865"), derived);
+
+        // Test case 3: empty salt and info
+        assertArrayEquals(Hex.decode("8da4e775a563c18f715f802a063c5a31b8a11f5c5ee1879ec3454e5f3c738d2d"
+            + "9d201395faa4b61a96c8"), HKDF.derive(key, new byte[0], new byte[0], 42));
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.cryptography.hashing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HMACBatchTest {
+
+    private static final Map<String, byte[]> KEYS = Map.of(
+        "client-1", "mySharedKey".getBytes(),
+        "client-2", "myOtherSharedKey".getBytes());
+
+    @Test
+    @DisplayName("Sign and verify a batch of messages with HmacSHA256 in parallel")
+    public void signVerifyBatch() throws GeneralSecurityException {
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var hmacBatch = new HMACBatch(HMACBatchTest::resolve, pool, 16, 16, Duration.ofMinutes(1));
+            final var messages = new ArrayList<HMACBatch.Message>();
+            for (int i = 0; i < 100; i++) {
+                final var keyId = i % 10 == 9 ? "unknown" : "client-" + (i % 2 + 1);
+                messages.add(new HMACBatch.Message(keyId, ("This is the request " + i).getBytes(), null));
+            }
+
+            final var signing = hmacBatch.sign(messages);
+            System.out.printf("Signing: %s\n", signing.metrics());
+            assertEquals(10, signing.metrics().unknownKeys());
+            assertNull(signing.macs()[9]);
+            assertArrayEquals(HMAC.hmac(messages.get(0).data(), KEYS.get("client-1")), signing.macs()[0]);
+
+            // Tamper every third mac
+            final var signed = new ArrayList<HMACBatch.Message>();
+            final var expected = new BitSet();
+            for (int i = 0; i < messages.size(); i++) {
+                final var message = messages.get(i);
+                final var mac = signing.macs()[i] == null ? new byte[32] : signing.macs()[i].clone();
+                if (i % 3 == 0) {
+                    mac[0] ^= 1;
+                }
+                signed.add(new HMACBatch.Message(message.keyId(), message.data(), mac));
+                expected.set(i, i % 3 != 0 && i % 10 != 9);
+            }
+
+            final var verification = hmacBatch.verify(signed);
+            System.out.printf("Verification: %s, %.0f messages/s\n", verification.metrics(),
+                verification.metrics().messagesPerSecond());
+            assertEquals(expected, verification.valid());
+            assertEquals(100 - expected.cardinality(), verification.metrics().failed());
+            // Known keys are resolved once per chunk, and cached after the first resolution
+            assertTrue(hmacBatch.keyCacheStats().hits() > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static byte[] resolve(final String keyId) throws InvalidKeyException {
+        final var key = KEYS.get(keyId);
+        if (key == null) {
+            throw new InvalidKeyException("Unknown key id: " + keyId);
+        }
+        return key;
+    }
+}
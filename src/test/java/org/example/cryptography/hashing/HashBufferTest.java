@@ -0,0 +1,86 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.example.cryptography.Utils.EncodeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.GeneralSecurityException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HashBufferTest {
+
+    @Test
+    @DisplayName("Hash into heap and direct buffers must be equal to the hash of the array")
+    public void hashIntoBuffers() throws GeneralSecurityException {
+        final var data = "This is a sample test to be hashing.".getBytes();
+        final var salt = CryptoUtils.getRandomNonce();
+
+        final var hash = Hash.hash(data);
+        final var hashWithSalt = Hash.hashWithSalt(data, salt);
+        System.out.printf("Hash: %s\n", EncodeUtils.toHex(hash));
+
+        for (final var output : new ByteBuffer[]{ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+            assertEquals(Hash.HASH_SIZE, Hash.hash(ByteBuffer.wrap(data), output));
+            assertArrayEquals(hash, written(output));
+
+            output.clear();
+            Hash.hashWithSalt(ByteBuffer.wrap(data), ByteBuffer.wrap(salt), output);
+            assertArrayEquals(hashWithSalt, written(output));
+        }
+    }
+
+    @Test
+    @DisplayName("Hash into a buffer without space must fail")
+    public void hashIntoSmallBuffer() {
+        final var data = "This is a sample test to be hashing.".getBytes();
+        assertThrows(DigestException.class, () -> Hash.hash(ByteBuffer.wrap(data), ByteBuffer.allocate(16)));
+
+        // The digest is reset, so the next hash is not affected
+        assertArrayEquals(Hash.hash(data), Hash.hash(data));
+    }
+
+    @Test
+    @DisplayName("HMAC into heap and direct buffers must be equal to the HMAC of the array")
+    public void hmacIntoBuffers() throws GeneralSecurityException {
+        final var data = "My data".getBytes();
+        final var sharedKey = "mySharedKey".getBytes();
+        final var key = new SecretKeySpec(sharedKey, HMAC.HASH_ALGORITHM);
+
+        final var hmac = HMAC.hmac(data, sharedKey);
+        System.out.printf("HMAC: %s\n", EncodeUtils.toHex(hmac));
+
+        for (final var output : new ByteBuffer[]{ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+            // The same key is used twice, so the mac is only initialized once
+            for (int i = 0; i < 2; i++) {
+                output.clear();
+                HMAC.hmac(ByteBuffer.wrap(data), key, output);
+                assertArrayEquals(hmac, written(output));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("PBKDF2 into a buffer must be equal to the derived key")
+    public void pbkdf2IntoBuffer() throws GeneralSecurityException {
+        final var password = "myPassword".toCharArray();
+        final var salt = CryptoUtils.getRandomNonce();
+
+        final var output = ByteBuffer.allocateDirect(PBKDF2.KEY_LENGTH / 8);
+        PBKDF2.hash(password, salt, output);
+
+        assertArrayEquals(PBKDF2.hash(password, salt), written(output));
+    }
+
+    private static byte[] written(final ByteBuffer output) {
+        final var result = new byte[output.position()];
+        output.get(0, result);
+        return result;
+    }
+}
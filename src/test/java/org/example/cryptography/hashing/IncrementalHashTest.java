@@ -0,0 +1,82 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.Utils.EncodeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IncrementalHashTest {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final Random RANDOM = new Random(42);
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("Hash arrays, buffers, streams and files incrementally with SHA-256")
+    public void hashIncrementally() throws IOException {
+        final var data = randomData(BUFFER_SIZE * 10 + 7);
+        final var expected = Hash.hash(data);
+        System.out.printf("Hash: %s\n", EncodeUtils.toHex(expected));
+
+        final var direct = ByteBuffer.allocateDirect(data.length).put(data).flip();
+        final var pieces = new IncrementalHash()
+            .update(data, 0, 100)
+            .update(direct.position(100))
+            .digest();
+        assertArrayEquals(expected, pieces);
+
+        final var stream = new IncrementalHash(Hash.DEFAULT_HASH_ALGORITHM, BUFFER_SIZE)
+            .update(new ByteArrayInputStream(data));
+        assertEquals(data.length, stream.position());
+        assertArrayEquals(expected, stream.digest());
+
+        final var file = Files.write(folder.resolve("data.bin"), data);
+        assertArrayEquals(expected, IncrementalHash.hash(file));
+    }
+
+    @Test
+    @DisplayName("Resume an interrupted SHA-256 of a file from the last checkpoint")
+    public void resumeFromCheckpoint() throws IOException {
+        final var data = randomData(BUFFER_SIZE * 10);
+        final var file = Files.write(folder.resolve("data.bin"), data);
+        final var checkpoints = new ArrayList<IncrementalHash.Checkpoint>();
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var hash = new IncrementalHash(Hash.DEFAULT_HASH_ALGORITHM, BUFFER_SIZE)
+                .update(channel, 0, BUFFER_SIZE * 3, checkpoints::add);
+            assertArrayEquals(Hash.hash(data), hash.digest());
+            assertEquals(3, checkpoints.size());
+
+            // Resume twice from the same checkpoint, as if the hashing failed after it
+            final var checkpoint = checkpoints.get(1);
+            System.out.printf("Resume from: %d\n", checkpoint.position());
+            for (int i = 0; i < 2; i++) {
+                final var resumed = IncrementalHash.resume(checkpoint).update(channel, checkpoint.position());
+                assertEquals(data.length, resumed.position());
+                assertArrayEquals(Hash.hash(data), resumed.digest());
+            }
+        }
+    }
+
+    private static byte[] randomData(final int size) {
+        final var data = new byte[size];
+        RANDOM.nextBytes(data);
+        return data;
+    }
+}
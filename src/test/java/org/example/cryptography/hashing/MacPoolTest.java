@@ -0,0 +1,83 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.Utils.EncodeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MacPoolTest {
+
+    @Test
+    @DisplayName("Reuse one initialized HmacSHA256 per key and thread")
+    public void reuseMacPerKey() throws GeneralSecurityException {
+        final var data = "This is an example that uses HMAC.".getBytes();
+        final var key = "mySharedKey".getBytes();
+        final var otherKey = "myOtherSharedKey".getBytes();
+
+        final var mac = MacPool.get(HMAC.HASH_ALGORITHM, key);
+        // Same content, another array
+        assertSame(mac, MacPool.get(HMAC.HASH_ALGORITHM, key.clone()));
+        assertNotSame(mac, MacPool.get(HMAC.HASH_ALGORITHM, otherKey));
+
+        final var expected = Mac.getInstance(HMAC.HASH_ALGORITHM);
+        expected.init(new SecretKeySpec(key, HMAC.HASH_ALGORITHM));
+        final var hmac = expected.doFinal(data);
+        System.out.printf("HMAC: %s\n", EncodeUtils.toHex(hmac));
+
+        // Alternate keys and leave a mac not completed, every result must be the same
+        for (int i = 0; i < 3; i++) {
+            MacPool.get(HMAC.HASH_ALGORITHM, otherKey).update(data);
+            assertArrayEquals(hmac, HMAC.hmac(data, key));
+            assertArrayEquals(hmac, HMAC.hmac(data, new SecretKeySpec(key, HMAC.HASH_ALGORITHM)));
+        }
+    }
+
+    @Test
+    @DisplayName("Evict the least recently used keys of the thread")
+    public void evictLeastRecentlyUsedKeys() throws GeneralSecurityException {
+        final var first = MacPool.get(HMAC.HASH_ALGORITHM, new byte[]{0});
+        for (int i = 1; i <= MacPool.MAXIMUM_KEYS; i++) {
+            MacPool.get(HMAC.HASH_ALGORITHM, new byte[]{(byte) i});
+        }
+        assertNotSame(first, MacPool.get(HMAC.HASH_ALGORITHM, new byte[]{0}));
+        // The other keys are still cached
+        assertSame(MacPool.get(HMAC.HASH_ALGORITHM, new byte[]{2}), MacPool.get(HMAC.HASH_ALGORITHM, new byte[]{2}));
+    }
+
+    @Test
+    @DisplayName("Clear the macs and the keys cached by the thread")
+    public void clearKeys() throws GeneralSecurityException {
+        final var data = "This is an example that uses HMAC.".getBytes();
+        final var key = "mySharedKey".getBytes();
+        final var secretKey = new SecretKeySpec(key, HMAC.HASH_ALGORITHM);
+        final var hmac = HMAC.hmac(data, key);
+        final var mac = MacPool.get(HMAC.HASH_ALGORITHM, key);
+        assertSame(mac, MacPool.get(HMAC.HASH_ALGORITHM, secretKey));
+
+        MacPool.clear();
+        assertNotSame(mac, MacPool.get(HMAC.HASH_ALGORITHM, key));
+        assertArrayEquals(hmac, HMAC.hmac(data, key));
+        assertArrayEquals(hmac, HMAC.hmac(data, secretKey));
+    }
+
+    @Test
+    @DisplayName("Reuse one MessageDigest per algorithm and thread")
+    public void reuseDigestPerAlgorithm() throws GeneralSecurityException {
+        final var data = "This is an example that uses SHA-256.".getBytes();
+        final var messageDigest = DigestPool.get(Hash.DEFAULT_HASH_ALGORITHM);
+        messageDigest.update(data);
+
+        // The digest is reset if a previous use was not completed
+        assertSame(messageDigest, DigestPool.get(Hash.DEFAULT_HASH_ALGORITHM));
+        assertArrayEquals(MessageDigest.getInstance(Hash.DEFAULT_HASH_ALGORITHM).digest(data), Hash.hash(data));
+        assertNotSame(messageDigest, DigestPool.get("SHA-512"));
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.Utils.EncodeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MerkleTreeTest {
+
+    private static final int LEAF_SIZE = 1024;
+
+    private static final Random RANDOM = new Random(42);
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("Hash the leaves of a file in parallel into a SHA-256 Merkle root")
+    public void buildMerkleTree() throws IOException, NoSuchAlgorithmException {
+        final var pool = new ForkJoinPool(4);
+        try {
+            for (final var size : new int[]{0, 10, LEAF_SIZE, LEAF_SIZE * 5 + 3}) {
+                final var data = randomData(size);
+                final var file = Files.write(folder.resolve("data.bin"), data);
+
+                final var tree = MerkleTree.build(file, LEAF_SIZE, pool);
+                System.out.printf("Size: %d, Leaves: %d, Root: %s\n", size, tree.leafCount(),
+                    EncodeUtils.toHex(tree.root()));
+
+                assertArrayEquals(expectedRoot(data), tree.root());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Re-hash only the modified leaves of a file")
+    public void updateModifiedRange() throws IOException, NoSuchAlgorithmException {
+        final var pool = ForkJoinPool.commonPool();
+        final var data = randomData(LEAF_SIZE * 8 + 100);
+        final var file = Files.write(folder.resolve("data.bin"), data);
+        final var tree = MerkleTree.build(file, LEAF_SIZE, pool);
+
+        // Modify bytes across the leaves 2 and 3
+        final var modified = data.clone();
+        Arrays.fill(modified, LEAF_SIZE * 3 - 10, LEAF_SIZE * 3 + 10, (byte) 0);
+        Files.write(file, modified);
+        final var updated = tree.update(file, LEAF_SIZE * 3 - 10, 20, pool);
+
+        assertArrayEquals(expectedRoot(modified), updated.root());
+        assertEquals(List.of(2, 3), updated.changedLeaves(tree));
+
+        // Append to the file
+        final var appended = Arrays.copyOf(modified, modified.length + LEAF_SIZE * 2);
+        Files.write(file, appended);
+        final var grown = updated.update(file, modified.length, LEAF_SIZE * 2, pool);
+        assertArrayEquals(expectedRoot(appended), grown.root());
+        assertEquals(List.of(8, 9, 10), grown.changedLeaves(updated));
+
+        // Truncate the file
+        final var truncated = Arrays.copyOf(appended, LEAF_SIZE * 2 + 1);
+        Files.write(file, truncated);
+        final var shrunk = grown.update(file, truncated.length, 0, pool);
+        assertArrayEquals(expectedRoot(truncated), shrunk.root());
+    }
+
+    /**
+     * Serial reference of the tree: leaves H(0x00 | leaf), nodes H(0x01 | left | right), odd nodes promoted.
+     */
+    private static byte[] expectedRoot(final byte[] data) throws NoSuchAlgorithmException {
+        final var messageDigest = MessageDigest.getInstance(Hash.DEFAULT_HASH_ALGORITHM);
+        var level = new ArrayList<byte[]>();
+        for (int offset = 0; offset < Math.max(1, data.length); offset += LEAF_SIZE) {
+            messageDigest.update((byte) 0);
+            messageDigest.update(data, offset, Math.min(LEAF_SIZE, data.length - offset));
+            level.add(messageDigest.digest());
+        }
+        while (level.size() > 1) {
+            final var next = new ArrayList<byte[]>();
+            for (int i = 0; i < level.size(); i += 2) {
+                if (i + 1 == level.size()) {
+                    next.add(level.get(i));
+                } else {
+                    messageDigest.update((byte) 1);
+                    messageDigest.update(level.get(i));
+                    next.add(messageDigest.digest(level.get(i + 1)));
+                }
+            }
+            level = next;
+        }
+        return level.get(0);
+    }
+
+    private static byte[] randomData(final int size) {
+        final var data = new byte[size];
+        RANDOM.nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.cryptography.hashing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PasswordHasherTest {
+
+    @Test
+    @DisplayName("Calibrate the PBKDF2 iterations for a target latency")
+    public void calibrate() throws GeneralSecurityException {
+        final var parameters = PBKDF2Calibration.calibrate(Duration.ofMillis(50));
+        System.out.printf("Calibrated parameters: %s\n", parameters);
+        assertEquals("PBKDF2WithHmacSHA512", parameters.algorithm());
+        assertEquals(512, parameters.keyLength());
+        assertTrue(parameters.iterations() >= PBKDF2Calibration.minimumIterations(parameters.algorithm()));
+        assertEquals(0, parameters.iterations() % 1000);
+
+        // However fast the hash, the iterations do not go below the recommended ones
+        final var floor = PBKDF2Calibration.calibrate("PBKDF2WithHmacSHA256", 256, Duration.ofNanos(1));
+        assertEquals(600_000, floor.iterations());
+        assertTrue(PBKDF2Calibration.minimumIterations("PBKDF2WithHmacSHA384") >= PBKDF2.ITERATION_COUNT);
+    }
+
+    @Test
+    @DisplayName("Encode the algorithm, iterations, salt and hash with the password hash")
+    public void encodeAndParse() throws GeneralSecurityException {
+        final var parameters = new PasswordHash.Parameters("PBKDF2WithHmacSHA256", 1000, 256);
+        final var password = "myPassword".toCharArray();
+        final var passwordHash = PasswordHash.create(parameters, password);
+        final var encoded = passwordHash.encode();
+        System.out.printf("Password hash: %s\n", encoded);
+
+        final var parsed = PasswordHash.parse(encoded);
+        assertEquals("PBKDF2WithHmacSHA256", parsed.algorithm());
+        assertEquals(1000, parsed.iterations());
+        assertArrayEquals(passwordHash.salt(), parsed.salt());
+        assertArrayEquals(passwordHash.hash(), parsed.hash());
+        assertTrue(parsed.matches(password));
+        assertFalse(parsed.matches("otherPassword".toCharArray()));
+
+        assertThrows(IllegalArgumentException.class, () -> PasswordHash.parse("PBKDF2WithHmacSHA256$1000$AA$AA"));
+        assertThrows(IllegalArgumentException.class, () -> PasswordHash.parse("$PBKDF2WithHmacSHA256$x$AA$AA"));
+    }
+
+    @Test
+    @DisplayName("Rehash on login the passwords hashed with outdated parameters")
+    public void rehashOnLogin() throws GeneralSecurityException {
+        final var password = "myPassword".toCharArray();
+        final var old = new PasswordHasher(new PasswordHash.Parameters(PBKDF2.HASH_ALGORITHM, 1000, 128));
+        final var stored = old.hash(password);
+
+        final var hasher = new PasswordHasher(new PasswordHash.Parameters("PBKDF2WithHmacSHA256", 2000, 256));
+        assertFalse(hasher.verify("otherPassword".toCharArray(), stored).valid());
+
+        final var verification = hasher.verify(password, stored);
+        System.out.printf("Rehash %s to %s\n", stored, verification.rehash());
+        assertTrue(verification.valid());
+        assertTrue(verification.needsRehash());
+
+        final var upgraded = hasher.verify(password, verification.rehash());
+        assertTrue(upgraded.valid());
+        assertNull(upgraded.rehash());
+        // Hashes with more iterations than the current ones are not downgraded
+        final var cheaper = new PasswordHasher(new PasswordHash.Parameters("PBKDF2WithHmacSHA256", 1000, 256));
+        assertFalse(cheaper.verify(password, verification.rehash()).needsRehash());
+    }
+
+    @Test
+    @DisplayName("Never lower the stored iterations when rehashing on login")
+    public void rehashKeepsIterations() throws GeneralSecurityException {
+        final var password = "myPassword".toCharArray();
+        final var stronger = new PasswordHasher(new PasswordHash.Parameters(PBKDF2.HASH_ALGORITHM, 5000, 128));
+        final var stored = stronger.hash(password);
+
+        // Another algorithm with fewer iterations, i.e. calibrated on a slower host
+        final var hasher = new PasswordHasher(new PasswordHash.Parameters("PBKDF2WithHmacSHA256", 2000, 256));
+        final var verification = hasher.verify(password, stored);
+        System.out.printf("Rehash %s to %s\n", stored, verification.rehash());
+        assertTrue(verification.needsRehash());
+        final var rehashed = PasswordHash.parse(verification.rehash());
+        assertEquals("PBKDF2WithHmacSHA256", rehashed.algorithm());
+        assertEquals(5000, rehashed.iterations());
+        assertEquals(32, rehashed.hash().length);
+        assertNull(hasher.verify(password, verification.rehash()).rehash());
+    }
+}
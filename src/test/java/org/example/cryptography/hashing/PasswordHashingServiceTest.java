@@ -0,0 +1,110 @@
+package org.example.cryptography.hashing;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.example.cryptography.Utils.EncodeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PasswordHashingServiceTest {
+
+    @Test
+    @DisplayName("Hash and verify passwords asynchronously with PBKDF2")
+    public void hashAndVerify() throws Exception {
+        final var config = new PasswordHashingService.Config(2, 16, "PBKDF2WithHmacSHA256", 1000, 256);
+        final var password = "myPassword".toCharArray();
+        final var salt = CryptoUtils.getRandomNonce();
+
+        try (var service = new PasswordHashingService(config)) {
+            final var hash = service.hash(password, salt).get();
+            System.out.printf("PBKDF2 hash: %s\n", EncodeUtils.toHex(hash));
+            assertArrayEquals(PBKDF2.hash("PBKDF2WithHmacSHA256", password, salt, 1000, 256), hash);
+
+            assertTrue(service.verify(password, salt, hash).get());
+            assertFalse(service.verify("otherPassword".toCharArray(), salt, hash).get());
+
+            final var stats = service.stats();
+            System.out.printf("Stats: %s\n", stats);
+            assertEquals(3, stats.completed());
+            assertEquals(0, stats.rejected());
+        }
+    }
+
+    @Test
+    @DisplayName("Reject requests when the queue is full")
+    public void rejectWhenQueueIsFull() throws Exception {
+        final var config = new PasswordHashingService.Config(1, 1, PBKDF2.HASH_ALGORITHM, 200_000, 128);
+        final var salt = CryptoUtils.getRandomNonce();
+
+        try (var service = new PasswordHashingService(config)) {
+            final var futures = new ArrayList<CompletableFuture<byte[]>>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(service.hash(("password" + i).toCharArray(), salt));
+            }
+            // One is hashed, one waits in the queue and the rest are rejected straight away
+            var rejected = 0;
+            for (final var future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    assertInstanceOf(RejectedExecutionException.class, e.getCause());
+                    rejected++;
+                }
+            }
+            final var stats = service.stats();
+            System.out.printf("Stats: %s\n", stats);
+            assertTrue(rejected >= 6);
+            assertEquals(rejected, stats.rejected());
+            assertEquals(futures.size() - rejected, stats.completed());
+        }
+    }
+
+    @Test
+    @DisplayName("Cancel the queued requests and keep the interrupt status when interrupted while closing")
+    public void closeWhenInterrupted() throws Exception {
+        final var config = new PasswordHashingService.Config(1, 4, PBKDF2.HASH_ALGORITHM, 1_000_000, 128);
+        final var service = new PasswordHashingService(config);
+        final var futures = new ArrayList<CompletableFuture<byte[]>>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(service.hash(("password" + i).toCharArray(), CryptoUtils.getRandomNonce()));
+        }
+        Thread.currentThread().interrupt();
+        final var start = System.nanoTime();
+        service.close();
+        final var elapsed = System.nanoTime() - start;
+        System.out.printf("Closed in %.1f ms\n", elapsed / 1e6);
+        assertTrue(Thread.interrupted());
+        assertTrue(elapsed < 10_000_000_000L);
+
+        // The request being hashed completes, the queued ones are cancelled, none is left waiting
+        var cancelled = 0;
+        for (final var future : futures) {
+            try {
+                future.get(1, TimeUnit.MINUTES);
+            } catch (CancellationException e) {
+                cancelled++;
+            }
+        }
+        assertEquals(3, cancelled);
+    }
+
+    @Test
+    @DisplayName("Reject invalid configurations")
+    public void rejectInvalidConfig() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new PasswordHashingService.Config(0, 1, PBKDF2.HASH_ALGORITHM, 1000, 128));
+    }
+}
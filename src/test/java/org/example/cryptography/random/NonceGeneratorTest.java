@@ -0,0 +1,64 @@
+package org.example.cryptography.random;
+
+import org.example.cryptography.Utils.EncodeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NonceGeneratorTest {
+
+    @Test
+    @DisplayName("Generate random nonces from the per-thread DRBG without repeating")
+    public void generateRandomNonces() {
+        final var nonces = new HashSet<ByteBuffer>();
+        // Several refills of the buffer, and a request larger than the buffer
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(nonces.add(ByteBuffer.wrap(NonceGenerator.random(12))));
+        }
+        final var large = NonceGenerator.random(NonceGenerator.BUFFER_SIZE * 2);
+        System.out.printf("Nonce: %s\n", EncodeUtils.toHex(NonceGenerator.random(12)));
+
+        assertEquals(NonceGenerator.BUFFER_SIZE * 2, large.length);
+        assertFalse(ByteBuffer.wrap(large).equals(ByteBuffer.allocate(large.length)));
+    }
+
+    @Test
+    @DisplayName("Generate deterministic GCM nonces with a fixed field and an invocation counter")
+    public void generateCounterNonces() throws InterruptedException {
+        final var fixedField = new byte[]{1, 2, 3, 4};
+        final var generator = new CounterNonceGenerator(fixedField);
+
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 0, 0, 0, 0, 0, 0, 0, 0}, generator.next());
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 0, 0, 0, 0, 0, 0, 0, 1}, generator.next());
+
+        // Concurrent invocations never get the same nonce
+        final var nonces = ConcurrentHashMap.<ByteBuffer>newKeySet();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    nonces.add(ByteBuffer.wrap(generator.next()));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        System.out.printf("Invocations: %d\n", generator.invocations());
+        assertEquals(4000, nonces.size());
+        assertEquals(4002, generator.invocations());
+        assertThrows(IllegalArgumentException.class, () -> new CounterNonceGenerator(new byte[3]));
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.cryptography.server;
+
+import org.example.cryptography.hashing.PasswordHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CryptoServerTest {
+
+    private static final PasswordHash.Parameters PARAMETERS =
+        new PasswordHash.Parameters("PBKDF2WithHmacSHA256", 1000, 256);
+
+    @Test
+    @DisplayName("Encrypt, decrypt, sign, verify and hash requests in process")
+    public void executeRequests() throws Exception {
+        final var data = "This is an example that uses the crypto service.".getBytes(StandardCharsets.UTF_8);
+        try (var service = new CryptoService(2, PARAMETERS)) {
+            final var encrypted = service.submit(new CryptoService.Request(CryptoService.Operation.ENCRYPT, data))
+                .get();
+            assertArrayEquals(data, service.submit(new CryptoService.Request(CryptoService.Operation.DECRYPT,
+                encrypted)).get());
+
+            final var signature = service.execute(new CryptoService.Request(CryptoService.Operation.SIGN, data));
+            assertArrayEquals(new byte[]{1}, service.execute(new CryptoService.Request(CryptoService.Operation.VERIFY,
+                data, signature)));
+            assertArrayEquals(new byte[]{0}, service.execute(new CryptoService.Request(CryptoService.Operation.VERIFY,
+                "Other data".getBytes(StandardCharsets.UTF_8), signature)));
+
+            final var hash = new String(service.execute(new CryptoService.Request(CryptoService.Operation.HASH,
+                "myPassword".getBytes(StandardCharsets.UTF_8))), StandardCharsets.UTF_8);
+            System.out.printf("Password hash: %s\n", hash);
+            assertTrue(PasswordHash.parse(hash).matches("myPassword".toCharArray()));
+        }
+    }
+
+    @Test
+    @DisplayName("Run many concurrent requests bounded by the RSA permits")
+    public void concurrentRequests() throws Exception {
+        final var data = "This is an example that uses the crypto service.".getBytes(StandardCharsets.UTF_8);
+        try (var service = new CryptoService(1, PARAMETERS)) {
+            final var futures = new ArrayList<CompletableFuture<byte[]>>();
+            for (int i = 0; i < 200; i++) {
+                final var operation = i % 10 == 0 ? CryptoService.Operation.SIGN : CryptoService.Operation.ENCRYPT;
+                futures.add(service.submit(new CryptoService.Request(operation, data)));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+        }
+    }
+
+    @Test
+    @DisplayName("Encrypt with a bounded latency while a burst of signatures and hashes takes the permits")
+    public void encryptDuringBurst() throws Exception {
+        final var data = "This is an example that uses the crypto service.".getBytes(StandardCharsets.UTF_8);
+        final var password = "myPassword".getBytes(StandardCharsets.UTF_8);
+        final var parameters = new PasswordHash.Parameters("PBKDF2WithHmacSHA256", 20_000, 256);
+        try (var service = new CryptoService(1, parameters)) {
+            var start = System.nanoTime();
+            service.execute(new CryptoService.Request(CryptoService.Operation.HASH, password));
+            final var hashTime = System.nanoTime() - start;
+
+            final var burst = new ArrayList<CompletableFuture<byte[]>>();
+            for (int i = 0; i < 16; i++) {
+                final var operation = i % 2 == 0 ? CryptoService.Operation.HASH : CryptoService.Operation.SIGN;
+                burst.add(service.submit(new CryptoService.Request(operation, i % 2 == 0 ? password : data)));
+            }
+            final var all = CompletableFuture.allOf(burst.toArray(CompletableFuture[]::new));
+
+            long maximum = 0;
+            for (int i = 0; i < 100; i++) {
+                start = System.nanoTime();
+                service.execute(new CryptoService.Request(CryptoService.Operation.ENCRYPT, data));
+                maximum = Math.max(maximum, System.nanoTime() - start);
+            }
+            System.out.printf("Hash: %.1f ms, maximum encryption during the burst: %.1f ms\n", hashTime / 1e6,
+                maximum / 1e6);
+            // The encryptions never wait for the permits, so they are done long before the burst
+            assertFalse(all.isDone());
+            assertTrue(maximum < hashTime);
+            all.get();
+        }
+    }
+
+    @Test
+    @DisplayName("Serve requests over a socket to the load test")
+    public void loadTest() throws Exception {
+        try (var service = new CryptoService(2, PARAMETERS); var server = new CryptoServer(service, 0)) {
+            server.start();
+            final var result = CryptoLoadTest.run(server.port(), 50, 20, CryptoService.Operation.ENCRYPT);
+            System.out.printf("Load test: %s\n", result);
+            assertEquals(1000, result.requests());
+            assertEquals(0, result.errors());
+
+            final var hashing = CryptoLoadTest.run(server.port(), 4, 5, CryptoService.Operation.HASH);
+            System.out.printf("Load test: %s\n", hashing);
+            assertEquals(0, hashing.errors());
+        }
+    }
+
+    @Test
+    @DisplayName("Reject a request line larger than the maximum and close the connection")
+    public void rejectLargeRequest() throws Exception {
+        try (var service = new CryptoService(1, PARAMETERS); var server = new CryptoServer(service, 0)) {
+            server.start();
+            try (var socket = new Socket(InetAddress.getLoopbackAddress(), server.port());
+                 var in = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                     StandardCharsets.US_ASCII))) {
+                final var out = socket.getOutputStream();
+                final var request = new byte[CryptoServer.MAX_REQUEST_SIZE + 1];
+                Arrays.fill(request, (byte) 'A');
+                System.arraycopy("ENCRYPT ".getBytes(StandardCharsets.US_ASCII), 0, request, 0, 8);
+                out.write(request);
+                out.flush();
+                assertEquals("ERROR Request too large", in.readLine());
+                assertNull(in.readLine());
+            }
+
+            // Other connections are still served
+            final var result = CryptoLoadTest.run(server.port(), 1, 10, CryptoService.Operation.ENCRYPT);
+            assertEquals(0, result.errors());
+        }
+    }
+}
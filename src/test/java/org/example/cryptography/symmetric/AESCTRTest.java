@@ -0,0 +1,93 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.example.cryptography.basic.XorEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AESCTRTest {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private static final Random RANDOM = new Random(42);
+
+    @Test
+    @DisplayName("Encrypt Decrypt with AES/CTR/NoPadding in parallel chunks")
+    public void encryptDecryptInParallel() throws GeneralSecurityException {
+        final var symmetricKey = CryptoUtils.generateSymmetricKey();
+        final var iv = CryptoUtils.getRandomNonce();
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var aesCTR = new AESCTR(symmetricKey, iv, CHUNK_SIZE, pool);
+            for (final var size : new int[]{0, 5, CHUNK_SIZE, CHUNK_SIZE * 20 + 3}) {
+                final var plainData = randomData(size);
+
+                final var encryptedData = aesCTR.encrypt(plainData);
+                // Same result than a single cipher over the whole data
+                assertArrayEquals(AESCipher.encrypt(AESMode.CTR, plainData, symmetricKey, iv), encryptedData);
+                assertArrayEquals(plainData, aesCTR.decrypt(encryptedData));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Decrypt any range of AES/CTR/NoPadding without the prefix")
+    public void decryptRanges() throws GeneralSecurityException {
+        final var aesCTR = new AESCTR(CryptoUtils.generateSymmetricKey(), CryptoUtils.getRandomNonce(),
+            CHUNK_SIZE, ForkJoinPool.commonPool());
+        final var plainData = randomData(CHUNK_SIZE * 10);
+        final var encryptedData = aesCTR.encrypt(plainData);
+
+        for (int i = 0; i < 50; i++) {
+            final var from = RANDOM.nextInt(plainData.length);
+            final var to = from + RANDOM.nextInt(plainData.length - from + 1);
+            final var range = aesCTR.decrypt(from, Arrays.copyOfRange(encryptedData, from, to));
+            assertArrayEquals(Arrays.copyOfRange(plainData, from, to), range);
+        }
+
+        // The keystream XOR the data is the encrypted data
+        final var keystream = new byte[100];
+        aesCTR.keystream(333, keystream);
+        final var encryptedRange = XorEngine.xor(Arrays.copyOfRange(plainData, 333, 433), keystream);
+        assertArrayEquals(Arrays.copyOfRange(encryptedData, 333, 433), encryptedRange);
+
+        final var output = ByteBuffer.allocateDirect(10);
+        assertEquals(10, aesCTR.update(17, ByteBuffer.wrap(encryptedData, 17, 10), output));
+        assertEquals(ByteBuffer.wrap(plainData, 17, 10), output.flip());
+    }
+
+    @Test
+    @DisplayName("AES/CTR counter blocks carry over as a 128 bits number")
+    public void counterBlockCarry() throws GeneralSecurityException {
+        final var iv = new byte[AESCTR.BLOCK_SIZE];
+        Arrays.fill(iv, 8, 16, (byte) 0xFF);
+        final var expected = new byte[AESCTR.BLOCK_SIZE];
+        expected[7] = 1;
+        expected[15] = 1;
+        assertArrayEquals(expected, AESCTR.counterBlock(iv, 2));
+
+        // The cipher increments the counter the same way
+        final var aesCTR = new AESCTR(CryptoUtils.generateSymmetricKey(), iv);
+        final var plainData = randomData(AESCTR.BLOCK_SIZE * 4);
+        final var encryptedData = aesCTR.encrypt(plainData);
+        assertArrayEquals(Arrays.copyOfRange(plainData, 40, 64),
+            aesCTR.decrypt(40, Arrays.copyOfRange(encryptedData, 40, 64)));
+    }
+
+    private static byte[] randomData(final int size) {
+        final var data = new byte[size];
+        RANDOM.nextBytes(data);
+        return data;
+    }
+}
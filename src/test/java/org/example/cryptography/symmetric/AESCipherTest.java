@@ -0,0 +1,112 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.example.cryptography.Utils.EncodeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.example.cryptography.Utils.EncodeUtils.CHUNK_SIZE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AESCipherTest {
+
+    @Test
+    @DisplayName("Encrypt Decrypt several messages with the pooled Cipher for every AES mode")
+    public void encryptDecryptWithPooledCipher() throws GeneralSecurityException {
+
+        // Generate the Symmetric key
+        final var symmetricKey = CryptoUtils.generateSymmetricKey();
+
+        // The data to be encrypted and decrypted. Input length must be multiple of 16 bytes for ECB and CBC.
+        final var plainText = "Hello world!!!!!Hello world!!!!!Hello world!!!!!";
+        System.out.printf("Plain Text: %s\n", plainText);
+
+        for (final var mode : AESMode.values()) {
+            for (int i = 0; i < 3; i++) {
+                // Each message uses a new initialization vector, the same cipher is initialized again.
+                final var iv = CryptoUtils.getRandomNonce();
+
+                final var encryptedData = AESCipher.encrypt(mode, plainText.getBytes(), symmetricKey, iv);
+                System.out.printf("Encrypted Text (%s):\n%s\n", mode,
+                    EncodeUtils.toHexSplit(encryptedData, CHUNK_SIZE));
+
+                final var decryptedData = AESCipher.decrypt(mode, encryptedData, symmetricKey, iv);
+                assertEquals(plainText, EncodeUtils.toString(decryptedData));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Encrypt Decrypt into direct buffers for every AES mode")
+    public void encryptDecryptIntoBuffers() throws GeneralSecurityException {
+        final var symmetricKey = CryptoUtils.generateSymmetricKey();
+        final var plainData = "Hello world!!!!!Hello world!!!!!Hello world!!!!!".getBytes();
+        final var input = ByteBuffer.allocateDirect(plainData.length).put(plainData).flip();
+        final var encrypted = ByteBuffer.allocateDirect(plainData.length + AESCipher.AUTHENTICATION_TAG_SIZE / 8);
+        final var decrypted = ByteBuffer.allocateDirect(plainData.length);
+
+        for (final var mode : AESMode.values()) {
+            final var iv = CryptoUtils.getRandomNonce();
+            encrypted.clear();
+            decrypted.clear();
+            input.rewind();
+
+            AESCipher.encrypt(mode, symmetricKey, iv, input, encrypted);
+            AESCipher.decrypt(mode, symmetricKey, iv, encrypted.flip(), decrypted);
+
+            final var decryptedData = new byte[decrypted.flip().remaining()];
+            decrypted.get(decryptedData);
+            assertArrayEquals(plainData, decryptedData);
+        }
+    }
+
+    @Test
+    @DisplayName("Pooled Cipher is recovered after a failed authentication with AES/GCM/NoPadding")
+    public void decryptAfterFailedAuthentication() throws GeneralSecurityException {
+        final var symmetricKey = CryptoUtils.generateSymmetricKey();
+        final var iv = CryptoUtils.getRandomNonce();
+        final var plainData = "This is an example that uses AES/GCM to encrypt information.".getBytes();
+
+        final var encryptedData = AESCipher.encrypt(AESMode.GCM, plainData, symmetricKey, iv);
+
+        // Tamper the data, so the authentication tag does not match
+        final var tamperedData = encryptedData.clone();
+        tamperedData[0] ^= 1;
+        assertThrows(AEADBadTagException.class, () -> AESCipher.decrypt(AESMode.GCM, tamperedData, symmetricKey, iv));
+
+        // The same pooled cipher is initialized again for the next message
+        assertArrayEquals(plainData, AESCipher.decrypt(AESMode.GCM, encryptedData, symmetricKey, iv));
+    }
+
+    @Test
+    @DisplayName("Cipher instances are reused in the same thread and not shared between threads")
+    public void cipherPoolIsThreadConfined() throws Exception {
+        final var transformation = AESMode.GCM.transformation();
+        final var cipher = CipherPool.get(transformation);
+        assertSame(cipher, CipherPool.get(transformation));
+        assertNotSame(cipher, CipherPool.get(AESMode.CBC.transformation()));
+
+        final var otherThreadCipher = new AtomicReference<Cipher>();
+        final var thread = new Thread(() -> {
+            try {
+                otherThreadCipher.set(CipherPool.get(transformation));
+            } catch (GeneralSecurityException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertNotSame(cipher, otherThreadCipher.get());
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.AEADBadTagException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AsyncFileEncryptionTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    private static final int RING_SIZE = 4;
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("Encrypt Decrypt files asynchronously with segmented AES/GCM/NoPadding")
+    public void encryptDecryptFile() throws Exception {
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            final var asyncFileEncryption = new AsyncFileEncryption(CryptoUtils.generateSymmetricKey(),
+                SEGMENT_SIZE, RING_SIZE, executor);
+
+            for (final var size : new int[]{0, 100, SEGMENT_SIZE * 4, SEGMENT_SIZE * 21 + 11}) {
+                final var plainData = randomData(size);
+                final var source = Files.write(folder.resolve("plain.txt"), plainData);
+                final var encrypted = folder.resolve("encrypted.bin");
+                final var decrypted = folder.resolve("decrypted.txt");
+
+                assertEquals(size, asyncFileEncryption.encrypt(source, encrypted).get());
+                System.out.printf("Plain size: %d, Encrypted size: %d\n", size, Files.size(encrypted));
+                assertEquals(StreamingAESGCM.ciphertextSize(size, SEGMENT_SIZE), Files.size(encrypted));
+
+                assertEquals(size, asyncFileEncryption.decrypt(encrypted, decrypted).get());
+                assertArrayEquals(plainData, Files.readAllBytes(decrypted));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Asynchronously encrypted file can be decrypted as a stream")
+    public void encryptFileDecryptStream() throws Exception {
+        final var symmetricKey = CryptoUtils.generateSymmetricKey();
+        final var plainData = randomData(SEGMENT_SIZE * 9 + 1);
+        final var source = Files.write(folder.resolve("plain.txt"), plainData);
+        final var encrypted = folder.resolve("encrypted.bin");
+
+        new AsyncFileEncryption(symmetricKey, SEGMENT_SIZE, RING_SIZE, null).encrypt(source, encrypted).get();
+
+        final var decrypted = new ByteArrayOutputStream();
+        try (var in = Files.newInputStream(encrypted)) {
+            new StreamingAESGCM(symmetricKey, SEGMENT_SIZE).decrypt(in, decrypted);
+        }
+        assertArrayEquals(plainData, decrypted.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Decrypt tampered file asynchronously must fail and remove the target")
+    public void decryptTamperedFile() throws GeneralSecurityException, IOException, InterruptedException {
+        final var symmetricKey = CryptoUtils.generateSymmetricKey();
+        final var source = Files.write(folder.resolve("plain.txt"), randomData(SEGMENT_SIZE * 10));
+        final var encrypted = folder.resolve("encrypted.bin");
+        final var decrypted = folder.resolve("decrypted.txt");
+        try (var out = Files.newOutputStream(encrypted); var in = Files.newInputStream(source)) {
+            new StreamingAESGCM(symmetricKey, SEGMENT_SIZE).encrypt(in, out);
+        }
+
+        final var encryptedData = Files.readAllBytes(encrypted);
+        encryptedData[(int) StreamingAESGCM.segmentOffset(7, SEGMENT_SIZE)] ^= 1;
+        Files.write(encrypted, encryptedData);
+
+        final var asyncFileEncryption = new AsyncFileEncryption(symmetricKey, SEGMENT_SIZE, RING_SIZE, null);
+        final var e = assertThrows(ExecutionException.class,
+            () -> asyncFileEncryption.decrypt(encrypted, decrypted).get());
+        assertInstanceOf(AEADBadTagException.class, e.getCause());
+        assertFalse(Files.exists(decrypted));
+    }
+
+    @Test
+    @DisplayName("Decrypt file with a forged segment size asynchronously must fail and remove the target")
+    public void decryptForgedHeader() throws Exception {
+        final var asyncFileEncryption = new AsyncFileEncryption(CryptoUtils.generateSymmetricKey(), SEGMENT_SIZE,
+            RING_SIZE, null);
+        final var source = Files.write(folder.resolve("plain.txt"), randomData(SEGMENT_SIZE * 3));
+        final var encrypted = folder.resolve("encrypted.bin");
+        final var decrypted = folder.resolve("decrypted.txt");
+        asyncFileEncryption.encrypt(source, encrypted).get();
+
+        final var encryptedData = Files.readAllBytes(encrypted);
+        ByteBuffer.wrap(encryptedData).putInt(1, Integer.MAX_VALUE);
+        Files.write(encrypted, encryptedData);
+
+        final var e = assertThrows(ExecutionException.class,
+            () -> asyncFileEncryption.decrypt(encrypted, decrypted).get());
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertFalse(Files.exists(decrypted));
+    }
+
+    private static byte[] randomData(final int size) {
+        final var data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.AEADBadTagException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MappedFileEncryptionTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    // Small window to map the files in several regions
+    private static final long WINDOW_SIZE = SEGMENT_SIZE * 4;
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("Encrypt Decrypt memory-mapped files with segmented AES/GCM/NoPadding")
+    public void encryptDecryptFile() throws GeneralSecurityException, IOException {
+        final var mappedFileEncryption = new MappedFileEncryption(CryptoUtils.generateSymmetricKey(),
+            SEGMENT_SIZE, WINDOW_SIZE);
+
+        for (final var size : new int[]{0, 100, SEGMENT_SIZE * 4, SEGMENT_SIZE * 21 + 11}) {
+            final var plainData = randomData(size);
+            final var source = Files.write(folder.resolve("plain.txt"), plainData);
+            final var encrypted = folder.resolve("encrypted.bin");
+            final var decrypted = folder.resolve("decrypted.txt");
+
+            mappedFileEncryption.encrypt(source, encrypted);
+            System.out.printf("Plain size: %d, Encrypted size: %d\n", size, Files.size(encrypted));
+            assertEquals(StreamingAESGCM.ciphertextSize(size, SEGMENT_SIZE), Files.size(encrypted));
+
+            mappedFileEncryption.decrypt(encrypted, decrypted);
+            assertArrayEquals(plainData, Files.readAllBytes(decrypted));
+        }
+    }
+
+    @Test
+    @DisplayName("Memory-mapped encrypted file can be decrypted as a stream")
+    public void encryptFileDecryptStream() throws GeneralSecurityException, IOException {
+        final var symmetricKey = CryptoUtils.generateSymmetricKey();
+        final var mappedFileEncryption = new MappedFileEncryption(symmetricKey, SEGMENT_SIZE, WINDOW_SIZE);
+        final var plainData = randomData(SEGMENT_SIZE * 9 + 1);
+        final var source = Files.write(folder.resolve("plain.txt"), plainData);
+        final var encrypted = folder.resolve("encrypted.bin");
+
+        mappedFileEncryption.encrypt(source, encrypted);
+
+        final var decrypted = new ByteArrayOutputStream();
+        try (var in = Files.newInputStream(encrypted)) {
+            new StreamingAESGCM(symmetricKey, SEGMENT_SIZE).decrypt(in, decrypted);
+        }
+        assertArrayEquals(plainData, decrypted.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Decrypt tampered memory-mapped file must fail and remove the target")
+    public void decryptTamperedFile() throws GeneralSecurityException, IOException {
+        final var mappedFileEncryption = new MappedFileEncryption(CryptoUtils.generateSymmetricKey(),
+            SEGMENT_SIZE, WINDOW_SIZE);
+        final var source = Files.write(folder.resolve("plain.txt"), randomData(SEGMENT_SIZE * 10));
+        final var encrypted = folder.resolve("encrypted.bin");
+        final var decrypted = folder.resolve("decrypted.txt");
+        mappedFileEncryption.encrypt(source, encrypted);
+
+        final var encryptedData = Files.readAllBytes(encrypted);
+        encryptedData[(int) StreamingAESGCM.segmentOffset(7, SEGMENT_SIZE)] ^= 1;
+        Files.write(encrypted, encryptedData);
+
+        assertThrows(AEADBadTagException.class, () -> mappedFileEncryption.decrypt(encrypted, decrypted));
+        assertFalse(Files.exists(decrypted));
+    }
+
+    @Test
+    @DisplayName("Decrypt memory-mapped file with a forged segment size must fail and remove the target")
+    public void decryptForgedHeader() throws GeneralSecurityException, IOException {
+        final var mappedFileEncryption = new MappedFileEncryption(CryptoUtils.generateSymmetricKey(),
+            SEGMENT_SIZE, WINDOW_SIZE);
+        final var source = Files.write(folder.resolve("plain.txt"), randomData(SEGMENT_SIZE * 3));
+        final var encrypted = folder.resolve("encrypted.bin");
+        final var decrypted = folder.resolve("decrypted.txt");
+        mappedFileEncryption.encrypt(source, encrypted);
+
+        final var encryptedData = Files.readAllBytes(encrypted);
+        ByteBuffer.wrap(encryptedData).putInt(1, Integer.MAX_VALUE);
+        Files.write(encrypted, encryptedData);
+
+        assertThrows(IllegalArgumentException.class, () -> mappedFileEncryption.decrypt(encrypted, decrypted));
+        assertFalse(Files.exists(decrypted));
+    }
+
+    private static byte[] randomData(final int size) {
+        final var data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}
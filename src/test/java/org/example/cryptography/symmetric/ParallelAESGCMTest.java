@@ -0,0 +1,92 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.AEADBadTagException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParallelAESGCMTest {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    @Test
+    @DisplayName("Encrypt Decrypt with parallel chunked AES/GCM/NoPadding")
+    public void encryptDecryptInParallel() throws GeneralSecurityException {
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var parallelAESGCM = new ParallelAESGCM(CryptoUtils.generateSymmetricKey(), CHUNK_SIZE, pool);
+
+            for (final var size : new int[]{0, 100, CHUNK_SIZE, CHUNK_SIZE * 64 + 3}) {
+                final var plainData = randomData(size);
+
+                final var encryptedData = parallelAESGCM.encrypt(plainData);
+                System.out.printf("Plain size: %d, Encrypted size: %d\n", size, encryptedData.length);
+
+                assertArrayEquals(plainData, parallelAESGCM.decrypt(encryptedData));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel and streaming AES/GCM/NoPadding share the same framing")
+    public void encryptInParallelDecryptStreaming() throws GeneralSecurityException, IOException {
+        final var symmetricKey = CryptoUtils.generateSymmetricKey();
+        final var parallelAESGCM = new ParallelAESGCM(symmetricKey, CHUNK_SIZE, ForkJoinPool.commonPool());
+        final var streamingAESGCM = new StreamingAESGCM(symmetricKey, CHUNK_SIZE);
+        final var plainData = randomData(CHUNK_SIZE * 10 + 5);
+
+        // Encrypt in parallel and decrypt as a stream
+        final var encryptedData = parallelAESGCM.encrypt(plainData);
+        final var decrypted = new ByteArrayOutputStream();
+        streamingAESGCM.decrypt(new ByteArrayInputStream(encryptedData), decrypted);
+        assertArrayEquals(plainData, decrypted.toByteArray());
+
+        // Encrypt as a stream and decrypt in parallel
+        final var encrypted = new ByteArrayOutputStream();
+        streamingAESGCM.encrypt(new ByteArrayInputStream(plainData), encrypted);
+        assertArrayEquals(plainData, parallelAESGCM.decrypt(encrypted.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("Decrypt tampered chunk with parallel AES/GCM/NoPadding must fail")
+    public void decryptTamperedChunk() throws GeneralSecurityException {
+        final var parallelAESGCM = new ParallelAESGCM(CryptoUtils.generateSymmetricKey(), CHUNK_SIZE,
+            ForkJoinPool.commonPool());
+        final var encryptedData = parallelAESGCM.encrypt(randomData(CHUNK_SIZE * 8));
+
+        encryptedData[(int) StreamingAESGCM.segmentOffset(5, CHUNK_SIZE) + 1] ^= 1;
+
+        assertThrows(AEADBadTagException.class, () -> parallelAESGCM.decrypt(encryptedData));
+    }
+
+    @Test
+    @DisplayName("Decrypt with a forged chunk size in the header must fail")
+    public void decryptForgedHeader() throws GeneralSecurityException {
+        final var parallelAESGCM = new ParallelAESGCM(CryptoUtils.generateSymmetricKey(), CHUNK_SIZE,
+            ForkJoinPool.commonPool());
+        final var encryptedData = parallelAESGCM.encrypt(randomData(CHUNK_SIZE * 8));
+
+        ByteBuffer.wrap(encryptedData).putInt(1, Integer.MAX_VALUE - 1);
+
+        assertThrows(IllegalArgumentException.class, () -> parallelAESGCM.decrypt(encryptedData));
+    }
+
+    private static byte[] randomData(final int size) {
+        final var data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParallelCBCTest {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private static final Random RANDOM = new Random(42);
+
+    @Test
+    @DisplayName("Decrypt AES/CBC/NoPadding in parallel chunks")
+    public void decryptInParallel() throws GeneralSecurityException {
+        final var symmetricKey = CryptoUtils.generateSymmetricKey();
+        final var iv = CryptoUtils.getRandomNonce();
+        final var pool = new ForkJoinPool(4);
+        try {
+            final var parallelCBC = new ParallelCBC(symmetricKey, CHUNK_SIZE, pool);
+            for (final var size : new int[]{0, 16, CHUNK_SIZE, CHUNK_SIZE * 20 + 48}) {
+                final var plainData = randomData(size);
+
+                // Encrypted serially, decrypted in parallel
+                final var encryptedData = AESCipher.encrypt(AESMode.CBC, plainData, symmetricKey, iv);
+                System.out.printf("Encrypted size: %d\n", encryptedData.length);
+
+                assertArrayEquals(plainData, parallelCBC.decrypt(encryptedData, iv));
+            }
+
+            final var plainData = randomData(CHUNK_SIZE * 3);
+            final var encryptedData = AESCipher.encrypt(AESMode.CBC, plainData, symmetricKey, iv);
+            final var output = ByteBuffer.allocateDirect(plainData.length);
+            assertEquals(plainData.length, parallelCBC.decrypt(ByteBuffer.wrap(encryptedData), iv, output));
+            assertEquals(ByteBuffer.wrap(plainData), output.flip());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Decrypt AES/CBC/PKCS5Padding in parallel chunks")
+    public void decryptPaddedInParallel() throws GeneralSecurityException {
+        final var symmetricKey = CryptoUtils.generateSymmetricKey();
+        final var iv = CryptoUtils.getRandomNonce();
+        final var parallelCBC = new ParallelCBC(symmetricKey, CHUNK_SIZE, ForkJoinPool.commonPool());
+
+        for (final var size : new int[]{0, 5, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE * 7 + 3}) {
+            final var plainData = randomData(size);
+            final var cipher = Cipher.getInstance(ParallelCBC.PADDED_ENCRYPT_ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, symmetricKey, new IvParameterSpec(iv));
+            final var encryptedData = cipher.doFinal(plainData);
+
+            assertArrayEquals(plainData, parallelCBC.decryptPadded(encryptedData, iv));
+        }
+
+        // A last byte of 0 is never a valid padding
+        final var unpadded = randomData(CHUNK_SIZE);
+        unpadded[unpadded.length - 1] = 0;
+        final var encryptedData = AESCipher.encrypt(AESMode.CBC, unpadded, symmetricKey, iv);
+        assertThrows(BadPaddingException.class, () -> parallelCBC.decryptPadded(encryptedData, iv));
+        assertThrows(IllegalArgumentException.class, () -> parallelCBC.decrypt(new byte[17], iv));
+    }
+
+    private static byte[] randomData(final int size) {
+        final var data = new byte[size];
+        RANDOM.nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.cryptography.symmetric;
+
+import org.example.cryptography.Utils.CryptoUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StreamingAESGCMTest {
+
+    private static final int SEGMENT_SIZE = 64;
+
+    @Test
+    @DisplayName("Encrypt Decrypt streams with segmented AES/GCM/NoPadding")
+    public void encryptDecryptStream() throws GeneralSecurityException, IOException {
+        final var streamingAESGCM = new StreamingAESGCM(CryptoUtils.generateSymmetricKey(), SEGMENT_SIZE);
+
+        // Empty data, data smaller than a segment, multiple of the segment size and not multiple.
+        for (final var size : new int[]{0, 10, SEGMENT_SIZE, SEGMENT_SIZE * 4, SEGMENT_SIZE * 4 + 17}) {
+            final var plainData = randomData(size);
+
+            final var encryptedData = encrypt(streamingAESGCM, plainData);
+            System.out.printf("Plain size: %d, Encrypted size: %d\n", size, encryptedData.length);
+            assertEquals(StreamingAESGCM.ciphertextSize(size, SEGMENT_SIZE), encryptedData.length);
+
+            final var decryptedData = decrypt(streamingAESGCM, encryptedData);
+            assertArrayEquals(plainData, decryptedData);
+        }
+    }
+
+    @Test
+    @DisplayName("Encrypt Decrypt channels with segmented AES/GCM/NoPadding")
+    public void encryptDecryptChannel() throws GeneralSecurityException, IOException {
+        final var streamingAESGCM = new StreamingAESGCM(CryptoUtils.generateSymmetricKey(), SEGMENT_SIZE);
+        final var plainData = randomData(SEGMENT_SIZE * 10 + 3);
+
+        final var encrypted = new ByteArrayOutputStream();
+        streamingAESGCM.encrypt(Channels.newChannel(new ByteArrayInputStream(plainData)),
+            Channels.newChannel(encrypted));
+
+        final var decrypted = new ByteArrayOutputStream();
+        streamingAESGCM.decrypt(Channels.newChannel(new ByteArrayInputStream(encrypted.toByteArray())),
+            Channels.newChannel(decrypted));
+
+        assertArrayEquals(plainData, decrypted.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Decrypt a single segment without processing the previous ones")
+    public void decryptSingleSegment() throws GeneralSecurityException, IOException {
+        final var streamingAESGCM = new StreamingAESGCM(CryptoUtils.generateSymmetricKey(), SEGMENT_SIZE);
+        final var plainData = randomData(SEGMENT_SIZE * 5 + 7);
+        final var encryptedData = encrypt(streamingAESGCM, plainData);
+
+        final var header = StreamingAESGCM.Header.read(ByteBuffer.wrap(encryptedData));
+        final var index = 3;
+        final var offset = (int) StreamingAESGCM.segmentOffset(index, SEGMENT_SIZE);
+        final var segment = Arrays.copyOfRange(encryptedData, offset, offset + SEGMENT_SIZE + StreamingAESGCM.TAG_SIZE);
+
+        final var decryptedSegment = streamingAESGCM.decryptSegment(header, index, false, segment);
+
+        assertArrayEquals(Arrays.copyOfRange(plainData, index * SEGMENT_SIZE, (index + 1) * SEGMENT_SIZE),
+            decryptedSegment);
+    }
+
+    @Test
+    @DisplayName("Encrypt every stream with its own key derived from the salt of the header")
+    public void deriveKeyPerStream() throws GeneralSecurityException, IOException {
+        final var streamingAESGCM = new StreamingAESGCM(CryptoUtils.generateSymmetricKey(), SEGMENT_SIZE);
+        final var plainData = randomData(SEGMENT_SIZE * 2);
+        final var first = encrypt(streamingAESGCM, plainData);
+        final var second = encrypt(streamingAESGCM, plainData);
+
+        final var firstHeader = StreamingAESGCM.Header.read(ByteBuffer.wrap(first));
+        final var secondHeader = StreamingAESGCM.Header.read(ByteBuffer.wrap(second));
+        assertFalse(Arrays.equals(firstHeader.salt(), secondHeader.salt()));
+
+        // Same nonce prefix, another salt: the key of the stream is different and the segments do not decrypt
+        final var reusedNonce = new StreamingAESGCM.Header(StreamingAESGCM.VERSION, SEGMENT_SIZE,
+            secondHeader.salt(), firstHeader.noncePrefix());
+        final var forged = first.clone();
+        reusedNonce.write(ByteBuffer.wrap(forged));
+        assertThrows(IOException.class, () -> decrypt(streamingAESGCM, forged));
+
+        // Alternate the streams, so the key of the last stream is derived again
+        assertArrayEquals(plainData, decrypt(streamingAESGCM, first));
+        assertArrayEquals(plainData, decrypt(streamingAESGCM, second));
+        assertArrayEquals(plainData, decrypt(streamingAESGCM, first));
+    }
+
+    @Test
+    @DisplayName("Decrypt tampered or truncated streams must fail")
+    public void decryptTamperedStream() throws GeneralSecurityException, IOException {
+        final var streamingAESGCM = new StreamingAESGCM(CryptoUtils.generateSymmetricKey(), SEGMENT_SIZE);
+        final var plainData = randomData(SEGMENT_SIZE * 3);
+        final var encryptedData = encrypt(streamingAESGCM, plainData);
+
+        // Modify a byte of the second segment
+        final var tamperedData = encryptedData.clone();
+        tamperedData[(int) StreamingAESGCM.segmentOffset(1, SEGMENT_SIZE) + 5] ^= 1;
+        assertThrows(IOException.class, () -> decrypt(streamingAESGCM, tamperedData));
+
+        // Remove the last segment, so the previous one is not flagged as the last
+        final var truncatedData = Arrays.copyOf(encryptedData,
+            (int) StreamingAESGCM.segmentOffset(2, SEGMENT_SIZE));
+        assertThrows(IOException.class, () -> decrypt(streamingAESGCM, truncatedData));
+
+        System.out.println("IOException: Segment authentication failed");
+    }
+
+    @Test
+    @DisplayName("Reject forged headers before allocating their segment size")
+    public void rejectForgedHeader() throws GeneralSecurityException, IOException {
+        final var streamingAESGCM = new StreamingAESGCM(CryptoUtils.generateSymmetricKey(), SEGMENT_SIZE);
+        final var encryptedData = encrypt(streamingAESGCM, randomData(SEGMENT_SIZE * 2));
+
+        // 2GB segments, the stream must not try to allocate them
+        final var forged = encryptedData.clone();
+        ByteBuffer.wrap(forged).putInt(1, Integer.MAX_VALUE);
+        final var e = assertThrows(IllegalArgumentException.class, () -> decrypt(streamingAESGCM, forged));
+        System.out.printf("IllegalArgumentException: %s\n", e.getMessage());
+
+        // A valid header of another segment size is rejected too
+        final var other = encrypt(new StreamingAESGCM(CryptoUtils.generateSymmetricKey(), SEGMENT_SIZE * 2),
+            randomData(SEGMENT_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> decrypt(streamingAESGCM, other));
+    }
+
+    private static byte[] encrypt(final StreamingAESGCM streamingAESGCM, final byte[] data) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        streamingAESGCM.encrypt(new ByteArrayInputStream(data), out);
+        return out.toByteArray();
+    }
+
+    private static byte[] decrypt(final StreamingAESGCM streamingAESGCM, final byte[] data) throws IOException {
+        try (var in = streamingAESGCM.decryptingStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] randomData(final int size) {
+        final var data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}